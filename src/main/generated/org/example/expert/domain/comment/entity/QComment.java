@@ -34,6 +34,8 @@ public class QComment extends EntityPathBase<Comment> {
     //inherited
     public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
 
+    public final StringPath provisionalId = createString("provisionalId");
+
     public final org.example.expert.domain.todo.entity.QTodo todo;
 
     public final org.example.expert.domain.user.entity.QUser user;
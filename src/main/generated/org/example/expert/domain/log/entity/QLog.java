@@ -27,8 +27,6 @@ public class QLog extends EntityPathBase<Log> {
 
     public final StringPath message = createString("message");
 
-    public final StringPath payload = createString("payload");
-
     public final NumberPath<Long> requesterId = createNumber("requesterId", Long.class);
 
     public final EnumPath<org.example.expert.domain.log.enums.LogStatus> status = createEnum("status", org.example.expert.domain.log.enums.LogStatus.class);
@@ -0,0 +1,162 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.common.annotation.Audited;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.log.enums.LogAction;
+import org.example.expert.domain.log.enums.LogStatus;
+import org.example.expert.domain.log.service.LogService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Audited} 메서드의 호출을 감사 로그 파이프라인(LogService → AuditLogWriter)으로 보낸다.
+ * <p>
+ * 요청자는 SecurityContext 의 AuthUser 에서, 대상은 @Audited(target) 로 지정한 파라미터에서 읽는다.
+ * 소요 시간은 모든 호출을 audited.call 타이머에 남기고, 로그 행은 action 별 비율로 샘플링한다 (실패는 항상 기록).
+ * 애스펙트 자체가 쓰는 시간은 audited.overhead 타이머로 확인한다.
+ */
+@Slf4j
+@Aspect
+@Component
+public class AuditedAspect {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final int NO_TARGET = -1;
+
+    private final LogService logService;
+    private final double[] sampleRates; // LogAction.ordinal() → 기록 비율
+    private final boolean cpuTimeEnabled;
+    private final Map<Method, Integer> targetIndexes = new ConcurrentHashMap<>();
+
+    private final Timer[] successTimers;
+    private final Timer[] failureTimers;
+    private final Timer overheadTimer;
+
+    public AuditedAspect(
+            LogService logService,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${audit.sampling.default:1.0}") double defaultRate
+    ) {
+        this.logService = logService;
+        this.cpuTimeEnabled = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+
+        LogAction[] actions = LogAction.values();
+        this.sampleRates = new double[actions.length];
+        this.successTimers = new Timer[actions.length];
+        this.failureTimers = new Timer[actions.length];
+        for (LogAction action : actions) {
+            sampleRates[action.ordinal()] =
+                    environment.getProperty("audit.sampling." + action.name(), Double.class, defaultRate);
+            // 호출마다 Timer 를 찾지 않도록 미리 등록
+            successTimers[action.ordinal()] = meterRegistry.timer("audited.call",
+                    "action", action.name(), "status", LogStatus.SUCCESS.name());
+            failureTimers[action.ordinal()] = meterRegistry.timer("audited.call",
+                    "action", action.name(), "status", LogStatus.FAIL.name());
+        }
+        this.overheadTimer = meterRegistry.timer("audited.overhead");
+    }
+
+    @Around("@annotation(audited)")
+    public Object audit(ProceedingJoinPoint joinPoint, Audited audited) throws Throwable {
+        long wallStart = System.nanoTime();
+        long cpuStart = cpuTimeEnabled ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0L;
+
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            long wallNanos = System.nanoTime() - wallStart;
+            long cpuNanos = cpuTimeEnabled ? THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart : -1L;
+            record(joinPoint, audited, failure, wallNanos, cpuNanos);
+        }
+    }
+
+    private void record(ProceedingJoinPoint joinPoint, Audited audited, Throwable failure, long wallNanos, long cpuNanos) {
+        long overheadStart = System.nanoTime();
+        try {
+            LogAction action = audited.action();
+            Timer timer = failure == null ? successTimers[action.ordinal()] : failureTimers[action.ordinal()];
+            timer.record(wallNanos, TimeUnit.NANOSECONDS);
+
+            if (failure == null && !sampled(action)) {
+                return;
+            }
+
+            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+            String method = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+            String payload = "{\"method\":\"" + method + "\""
+                    + ",\"wallMicros\":" + TimeUnit.NANOSECONDS.toMicros(wallNanos)
+                    + ",\"cpuMicros\":" + (cpuNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(cpuNanos)) + "}";
+            String message = failure == null ? method : failure.getClass().getSimpleName() + ": " + failure.getMessage();
+
+            logService.write(action, failure == null ? LogStatus.SUCCESS : LogStatus.FAIL,
+                    currentUserId(), targetId(joinPoint, audited), message, payload);
+        } catch (RuntimeException e) {
+            // 감사 로그 실패가 업무 결과를 바꾸지 않도록 삼킨다
+            log.warn("감사 로그 기록 실패: action={}, {}", audited.action(), e.getMessage());
+        } finally {
+            overheadTimer.record(System.nanoTime() - overheadStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean sampled(LogAction action) {
+        double rate = sampleRates[action.ordinal()];
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.getId();
+        }
+        return null;
+    }
+
+    private Long targetId(ProceedingJoinPoint joinPoint, Audited audited) {
+        if (audited.target().isEmpty()) {
+            return null;
+        }
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        // 파라미터 이름 조회는 리플렉션이므로 메서드별로 한 번만 한다
+        int index = targetIndexes.computeIfAbsent(signature.getMethod(),
+                m -> indexOf(signature.getParameterNames(), audited.target()));
+        if (index == NO_TARGET) {
+            return null;
+        }
+        return joinPoint.getArgs()[index] instanceof Number number ? number.longValue() : null;
+    }
+
+    private static int indexOf(String[] names, String target) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (target.equals(names[i])) {
+                    return i;
+                }
+            }
+        }
+        log.warn("@Audited target 파라미터를 찾을 수 없습니다: {}", target);
+        return NO_TARGET;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.expert.client;
+
+/**
+ * 외부 호출용 최소 서킷 브레이커.
+ * CLOSED: 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * OPEN: openMillis 동안 호출하지 않고 즉시 실패, 이후 HALF_OPEN 으로 한 번 시도
+ * HALF_OPEN: 시도가 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    synchronized boolean allowRequest() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> {
+                if (System.currentTimeMillis() - openedAt >= openMillis) {
+                    state = State.HALF_OPEN;
+                    yield true;
+                }
+                yield false;
+            }
+            case HALF_OPEN -> false; // 시험 호출이 진행 중
+        };
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
@@ -1,8 +1,13 @@
 package org.example.expert.client;
 
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.client.dto.WeatherStatusResponse;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -10,19 +15,162 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 날씨 데이터는 하루 단위로만 바뀌므로 weather.json 을 날짜별 맵(WeatherSnapshot)으로 캐시한다.
+ * 날짜가 바뀌거나 TTL 이 지나면 갱신하며, 동시에 들어온 갱신 요청은 하나의 HTTP 호출로 합친다(single-flight).
+ * 갱신에 실패하면 마지막으로 성공한 스냅샷을, 그것도 없으면 weather.fallback 값을 사용한다.
+ * 성공한 스냅샷은 WeatherStore(로컬 파일)에 저장되어 다음 기동 시 네트워크 없이 먼저 적재된다.
+ * 외부 호출은 connect/read 타임아웃과 서킷 브레이커로 감싸, 느린 upstream 이 요청 스레드를 오래 붙잡지 않게 한다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final long ttlMillis;
+    private final String fallbackWeather;
+    private final CircuitBreaker circuitBreaker;
+    private final WeatherStore weatherStore;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private volatile WeatherSnapshot snapshot;
+    private final AtomicReference<CompletableFuture<WeatherSnapshot>> inFlight = new AtomicReference<>();
+
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            @Value("${weather.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.cache-ttl:6h}") Duration ttl,
+            @Value("${weather.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${weather.read-timeout:2s}") Duration readTimeout,
+            @Value("${weather.fallback:Unknown}") String fallbackWeather,
+            @Value("${weather.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration:30s}") Duration openDuration,
+            WeatherStore weatherStore
+    ) {
+        this.restTemplate = builder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+        this.baseUrl = baseUrl;
+        this.ttlMillis = ttl.toMillis();
+        this.fallbackWeather = fallbackWeather;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration.toMillis());
+        this.weatherStore = weatherStore;
+        // 외부망 없이 기동해도 바로 쓸 수 있도록 로컬 파일을 먼저 적재
+        this.snapshot = weatherStore.load().orElse(null);
+    }
+
+    // 기동 직후 upstream 에 닿으면 최신 데이터로 갱신 (실패해도 파일 스냅샷/기본값으로 동작)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        WeatherSnapshot current = snapshot;
+        if (current == null || current.isExpired(LocalDate.now(), System.currentTimeMillis(), ttlMillis)) {
+            refresh(current, false);
+        }
     }
 
     public String getTodayWeather() {
+        LocalDate today = LocalDate.now();
+        WeatherSnapshot current = snapshot;
+
+        if (current == null || current.isExpired(today, System.currentTimeMillis(), ttlMillis)) {
+            current = refresh(current, false);
+        }
+        if (current == null) {
+            // 받아온 적도 없고 지금도 실패 → 설정된 기본값으로 생성은 계속 진행
+            log.warn("날씨 데이터를 사용할 수 없어 기본값({})을 사용합니다.", fallbackWeather);
+            return fallbackWeather;
+        }
+
+        String weather = current.weatherOn(today);
+        if (weather == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    private WeatherSnapshot refresh(WeatherSnapshot stale, boolean force) {
+        CompletableFuture<WeatherSnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<WeatherSnapshot> running = inFlight.compareAndExchange(null, mine);
+
+        if (running == null) {
+            // 이 스레드가 대표로 조회
+            try {
+                // 직전 대표 조회가 방금 끝났을 수 있으므로 다시 확인
+                WeatherSnapshot latest = snapshot;
+                if (!force && latest != null && !latest.isExpired(LocalDate.now(), System.currentTimeMillis(), ttlMillis)) {
+                    mine.complete(latest);
+                    return latest;
+                }
+                if (!circuitBreaker.allowRequest()) {
+                    throw new ServerException("날씨 API 서킷이 열려 있습니다.");
+                }
+                WeatherSnapshot fresh = fetchWithBreaker();
+                snapshot = fresh;
+                weatherStore.save(fresh);
+                mine.complete(fresh);
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+            } finally {
+                inFlight.set(null);
+            }
+            running = mine;
+        }
+
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 이전 스냅샷이 있으면 그대로, 없으면 null → 호출 측에서 기본값 사용
+            log.warn("날씨 데이터 갱신 실패 (이전 스냅샷: {}): {}",
+                    stale != null ? stale.fetchedOn() : "없음", e.getCause().getMessage());
+            return stale;
+        }
+    }
+
+    // === 관리자용 ===
+
+    public WeatherStatusResponse status() {
+        WeatherSnapshot current = snapshot;
+        return new WeatherStatusResponse(
+                current != null ? current.source() : null,
+                current != null ? current.fetchedAt() : null,
+                current != null ? current.size() : 0,
+                current != null ? current.weatherOn(LocalDate.now()) : null,
+                circuitBreaker.state().name(),
+                weatherStore.getPath().toString()
+        );
+    }
+
+    // upstream 에서 강제로 다시 받아온다. 실패하면 기존 스냅샷 유지
+    public WeatherStatusResponse reloadFromRemote() {
+        refresh(snapshot, true);
+        return status();
+    }
+
+    // 로컬 파일을 다시 읽는다 (파일을 직접 교체한 경우)
+    public WeatherStatusResponse reloadFromFile() {
+        weatherStore.load().ifPresent(loaded -> snapshot = loaded);
+        return status();
+    }
+
+    private WeatherSnapshot fetchWithBreaker() {
+        try {
+            WeatherSnapshot fresh = fetchSnapshot();
+            circuitBreaker.onSuccess();
+            return fresh;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    private WeatherSnapshot fetchSnapshot() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -35,28 +183,15 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
-        }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return WeatherSnapshot.of(weatherArray, System.currentTimeMillis(), WeatherSnapshot.SOURCE_REMOTE);
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
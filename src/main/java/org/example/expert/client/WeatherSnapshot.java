@@ -0,0 +1,87 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * weather.json 을 한 번 파싱해 만든 날짜별 날씨. 윤년 기준 366칸 배열을 일(day-of-year)로 바로 인덱싱한다.
+ * 불변으로 취급하므로(생성 후 배열을 수정하지 않음) 스레드 간에 그대로 공유한다.
+ */
+record WeatherSnapshot(
+        String[] byDayOfYear,
+        int size,
+        LocalDate fetchedOn,
+        long fetchedAtMillis,
+        String source
+) {
+    static final String SOURCE_REMOTE = "remote";
+    static final String SOURCE_FILE = "file";
+
+    static final int DAYS = 366;
+    // 윤년 기준 월 시작 인덱스 (2월 29일 포함)
+    private static final int[] MONTH_OFFSET = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+
+    static WeatherSnapshot of(WeatherDto[] weatherArray, long fetchedAtMillis, String source) {
+        String[] byDayOfYear = new String[DAYS];
+        int size = 0;
+        for (WeatherDto weatherDto : weatherArray) {
+            int index = indexOf(weatherDto.getDate());
+            if (index >= 0 && byDayOfYear[index] == null) {
+                byDayOfYear[index] = weatherDto.getWeather();
+                size++;
+            }
+        }
+        return fromDays(byDayOfYear, size, fetchedAtMillis, source);
+    }
+
+    static WeatherSnapshot fromDays(String[] byDayOfYear, int size, long fetchedAtMillis, String source) {
+        LocalDate fetchedOn = Instant.ofEpochMilli(fetchedAtMillis).atZone(ZoneId.systemDefault()).toLocalDate();
+        return new WeatherSnapshot(byDayOfYear, size, fetchedOn, fetchedAtMillis, source);
+    }
+
+    String weatherOn(LocalDate date) {
+        return byDayOfYear[MONTH_OFFSET[date.getMonthValue() - 1] + date.getDayOfMonth() - 1];
+    }
+
+    // 날짜가 바뀌었거나 TTL 이 지났으면 새로 받아온다
+    boolean isExpired(LocalDate today, long nowMillis, long ttlMillis) {
+        return !fetchedOn.equals(today) || nowMillis - fetchedAtMillis >= ttlMillis;
+    }
+
+    LocalDateTime fetchedAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(fetchedAtMillis), ZoneId.systemDefault());
+    }
+
+    // 인덱스 → "MM-dd" (저장용)
+    static String dateAt(int index) {
+        int month = 12;
+        while (MONTH_OFFSET[month - 1] > index) {
+            month--;
+        }
+        int day = index - MONTH_OFFSET[month - 1] + 1;
+        return String.format("%02d-%02d", month, day);
+    }
+
+    // "MM-dd" → 인덱스, 형식이 맞지 않으면 -1
+    static int indexOf(String monthDay) {
+        if (monthDay == null || monthDay.length() != 5 || monthDay.charAt(2) != '-') {
+            return -1;
+        }
+        try {
+            int month = Integer.parseInt(monthDay, 0, 2, 10);
+            int day = Integer.parseInt(monthDay, 3, 5, 10);
+            if (month < 1 || month > 12 || day < 1) {
+                return -1;
+            }
+            int next = month == 12 ? DAYS : MONTH_OFFSET[month];
+            int index = MONTH_OFFSET[month - 1] + day - 1;
+            return index < next ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 마지막으로 받아온 날씨 데이터를 로컬 파일에 보관해, 외부망이 없는 상태로 기동해도 바로 사용할 수 있게 한다.
+ * 형식: 첫 줄 "#fetchedAt=<epochMillis>", 이후 "MM-dd\tweather" 한 줄씩 (UTF-8)
+ * 임시 파일에 쓴 뒤 같은 디렉터리 안에서 원자적으로 교체한다.
+ */
+@Slf4j
+@Component
+public class WeatherStore {
+
+    private static final String HEADER_PREFIX = "#fetchedAt=";
+
+    private final Path path;
+
+    public WeatherStore(@Value("${weather.store-path:data/weather.tsv}") String path) {
+        this.path = Path.of(path).toAbsolutePath();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    Optional<WeatherSnapshot> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || !header.startsWith(HEADER_PREFIX)) {
+                log.warn("날씨 저장 파일 형식이 올바르지 않습니다: {}", path);
+                return Optional.empty();
+            }
+            long fetchedAtMillis = Long.parseLong(header.substring(HEADER_PREFIX.length()));
+
+            String[] byDayOfYear = new String[WeatherSnapshot.DAYS];
+            int size = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                int index = tab > 0 ? WeatherSnapshot.indexOf(line.substring(0, tab)) : -1;
+                if (index >= 0 && byDayOfYear[index] == null) {
+                    byDayOfYear[index] = line.substring(tab + 1);
+                    size++;
+                }
+            }
+            return Optional.of(WeatherSnapshot.fromDays(byDayOfYear, size, fetchedAtMillis, WeatherSnapshot.SOURCE_FILE));
+        } catch (IOException | RuntimeException e) {
+            log.warn("날씨 저장 파일을 읽지 못했습니다: {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    void save(WeatherSnapshot snapshot) {
+        try {
+            Path dir = path.getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+            try {
+                try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                    writer.write(HEADER_PREFIX + snapshot.fetchedAtMillis());
+                    writer.newLine();
+                    String[] byDayOfYear = snapshot.byDayOfYear();
+                    for (int i = 0; i < byDayOfYear.length; i++) {
+                        if (byDayOfYear[i] != null) {
+                            writer.write(WeatherSnapshot.dateAt(i));
+                            writer.write('\t');
+                            writer.write(byDayOfYear[i]);
+                            writer.newLine();
+                        }
+                    }
+                }
+                try {
+                    Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // 저장 실패는 메모리 스냅샷 사용에 영향이 없으므로 경고만 남김
+            log.warn("날씨 저장 파일을 쓰지 못했습니다: {}", path, e);
+        }
+    }
+}
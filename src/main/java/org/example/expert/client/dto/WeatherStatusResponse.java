@@ -0,0 +1,13 @@
+package org.example.expert.client.dto;
+
+import java.time.LocalDateTime;
+
+public record WeatherStatusResponse(
+        String source,          // remote | file | null(없음)
+        LocalDateTime fetchedAt,
+        int entries,
+        String todayWeather,
+        String circuitState,
+        String storePath
+) {
+}
@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+
+/**
+ * 공통 에러 응답 본문 {"status", "code", "message"}.
+ * 필터처럼 고정 메시지로 자주 거절하는 곳은 prerender() 로 한 번만 직렬화해 두고 바이트 배열을 그대로 쓴다.
+ */
+public record ErrorResponse(String status, int code, String message) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static ErrorResponse of(HttpStatus status, String message) {
+        return new ErrorResponse(status.name(), status.value(), message);
+    }
+
+    public static Prerendered prerender(HttpStatus status, String message) {
+        try {
+            return new Prerendered(status.value(), MAPPER.writeValueAsBytes(of(status, message)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 미리 직렬화한 응답. body 는 외부에 노출하지 않으므로 불변으로 공유해도 된다. */
+    public static final class Prerendered {
+
+        private final int status;
+        private final byte[] body;
+
+        private Prerendered(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        public int status() {
+            return status;
+        }
+
+        public void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            response.setContentType("application/json;charset=UTF-8");
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.entity.IdSequences;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+import static org.example.expert.domain.common.entity.IdSequences.*;
+
+/**
+ * IDENTITY 로 쌓인 기존 행과 충돌하지 않도록, 기동 시 id_sequences 값을 테이블의 MAX(id) 이후로 맞춘다.
+ * pooled optimizer 는 저장된 값 v 로 (v - ALLOCATION_SIZE, v] 구간을 발급하므로 MAX(id) + ALLOCATION_SIZE 이상이어야 한다.
+ * EntityManagerFactory(스키마 생성) 이후, 웹 서버가 요청을 받기 전에 실행된다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    // 시퀀스 이름 → 대상 테이블
+    private static final Map<String, String> SEQUENCES = Map.of(
+            IdSequences.TODOS, "todos",
+            IdSequences.MANAGERS, "managers"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        SEQUENCES.forEach((sequence, table) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            long floor = (maxId != null ? maxId : 0L) + ALLOCATION_SIZE;
+
+            Integer rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + TABLE + " WHERE " + NAME_COLUMN + " = ?", Integer.class, sequence);
+            if (rows == null || rows == 0) {
+                jdbcTemplate.update(
+                        "INSERT INTO " + TABLE + " (" + NAME_COLUMN + ", " + VALUE_COLUMN + ") VALUES (?, ?)",
+                        sequence, floor);
+            } else {
+                jdbcTemplate.update(
+                        "UPDATE " + TABLE + " SET " + VALUE_COLUMN + " = ? WHERE " + NAME_COLUMN + " = ? AND " + VALUE_COLUMN + " < ?",
+                        floor, sequence, floor);
+            }
+            log.info("id sequence '{}' aligned above max(id)={} of {}", sequence, maxId, table);
+        });
+    }
+}
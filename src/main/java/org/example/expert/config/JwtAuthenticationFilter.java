@@ -1,10 +1,7 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,29 +9,30 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.revocation.TokenRevocationRegistry;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 거절 응답은 메시지가 고정이므로 기동 시 한 번만 직렬화해 두고 그대로 쓴다
+    private static final ErrorResponse.Prerendered UNAUTHORIZED =
+            ErrorResponse.prerender(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+    private static final ErrorResponse.Prerendered BAD_TOKEN =
+            ErrorResponse.prerender(HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
+    private static final ErrorResponse.Prerendered INTERNAL_ERROR =
+            ErrorResponse.prerender(HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 오류가 발생했습니다.");
+
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -65,61 +63,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // JWT 토큰을 검증하고 SecurityContext에 인증 정보를 설정하는 메서드
     private boolean processAuthentication(String jwt, HttpServletRequest request, HttpServletResponse response) throws IOException {
         try {
-            // JWT 토큰을 파싱하여 Claims(토큰에 담긴 정보) 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
+            // 서명 검증 후 사용자 정보 추출 (이미 검증된 토큰은 캐시에서 바로 가져옴)
+            VerifiedToken verified = jwtUtil.verify(jwt);
+
+            // 폐기된 토큰 (권한/비밀번호 변경 등) - 메모리 Bloom filter 로 확인하므로 DB 조회 없음
+            if (tokenRevocationRegistry.isRevoked(verified)) {
+                log.info("폐기된 JWT: userId={}, URI={}", verified.authUser().getId(), request.getRequestURI());
+                UNAUTHORIZED.writeTo(response);
+                return false;
+            }
 
             // SecurityContext에 인증 정보가 없으면 설정 (이미 인증된 경우 중복 설정 방지)
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                setAuthentication(claims);
+                setAuthentication(verified.authUser());
             }
             return true; // 검증 성공
         } catch (ExpiredJwtException e) {
             log.info("JWT 만료: userId={}, URI={}", e.getClaims().getSubject(), request.getRequestURI());
-            sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
-        } catch (SecurityException | MalformedJwtException | UnsupportedJwtException e) {
-            log.error("JWT 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), request.getRequestURI(), e);
-            sendErrorResponse(response, HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
+            UNAUTHORIZED.writeTo(response);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 위조/손상 토큰 폭주 시 스택 트레이스 로그가 가장 큰 비용이므로 debug 로만 남긴다
+            log.debug("JWT 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), request.getRequestURI(), e);
+            BAD_TOKEN.writeTo(response);
         } catch (Exception e) {
             log.error("예상치 못한 오류: URI={}", request.getRequestURI(), e);
-            sendErrorResponse(response, HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 오류가 발생했습니다.");
+            INTERNAL_ERROR.writeTo(response);
         }
         return false; // 검증 실패
     }
 
-    // JWT Claims에서 사용자 정보를 추출하여 Spring Security의 인증 정보 설정
-    private void setAuthentication(Claims claims) {
-        // JWT의 subject claim에서 사용자 ID 추출 (subject는 JWT 표준 claim)
-        Long userId = Long.valueOf(claims.getSubject());
-        // 커스텀 claim에서 이메일 정보 추출
-        String email = claims.get("email", String.class);
-        // 커스텀 claim에서 닉네임 정보 추출
-        String nickname = claims.get("nickname", String.class);
-        // 커스텀 claim에서 사용자 권한 정보를 추출하여 enum으로 변환
-        UserRole userRole = UserRole.of(claims.get("userRole", String.class));
-
-        // 추출한 정보로 인증된 사용자 객체 생성
-        AuthUser authUser = new AuthUser(userId, email, userRole, nickname);
-        // 권한 리스트 생성
-        List<GrantedAuthority> authorities = List.of(
-                new SimpleGrantedAuthority(userRole.getAuthority())
-        );
-        // Authentication 객체 생성
-        Authentication authenticationToken = new UsernamePasswordAuthenticationToken(
-                authUser,  // principal
-                null,      // credentials (JWT는 이미 검증했으므로 null)
-                authorities // 권한
-        );
+    // 인증된 사용자 정보로 Spring Security의 인증 정보 설정
+    // 권한 목록은 UserRole 별로 공유하는 불변 리스트를 쓴다
+    private void setAuthentication(AuthUser authUser) {
         // SecurityContext에 인증 정보 저장 - 이후 @AuthenticationPrincipal로 접근 가능
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-    }
-
-    private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
-        response.setStatus(status.value());
-        response.setContentType("application/json;charset=UTF-8");
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("status", status.name());
-        errorResponse.put("code", status.value());
-        errorResponse.put("message", message);
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(authUser));
     }
 }
@@ -1,11 +1,14 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,25 +16,45 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.security.Key;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j(topic = "JwtUtil")
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final Base64.Encoder JTI_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    // 표준 iat 는 초 단위라 사용자 단위 폐기 시각과 같은 초에 발급된 토큰을 구분할 수 없어 밀리초 발급 시각을 따로 싣는다
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    // 짧게 두고 refresh token 으로 갱신 → 권한/닉네임 변경이 최대 TTL 안에 반영
+    @Value("${jwt.access-token-ttl:15m}")
+    private Duration accessTokenTtl;
+    // 만료 시각을 TTL 의 최대 이 비율만큼 앞당겨 흩어 놓아, 같은 시각에 로그인한 사용자들의 갱신이 한꺼번에 몰리지 않게 한다
+    @Value("${jwt.access-token-jitter:0.1}")
+    private double accessTokenJitter;
     private Key key;
+    private JwtParser parser; // 불변이라 스레드 간 공유 가능
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    // jti 는 토큰 단위 폐기 키이므로 추측할 수 없어야 한다
+    private final SecureRandom random = new SecureRandom();
+
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String createToken(Long userId, String email, UserRole userRole, String nickname) {
@@ -39,16 +62,36 @@ public class JwtUtil {
 
         return BEARER_PREFIX +
                 Jwts.builder()
+                        .setId(newJti()) // jti: 토큰 단위 폐기용
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
                         .claim("userRole", userRole)
                         .claim("nickname", nickname)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
+                        .setExpiration(new Date(date.getTime() + jitteredTtlMillis()))
                         .setIssuedAt(date) // 발급일
+                        .claim(ISSUED_AT_MILLIS_CLAIM, date.getTime())
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
+    // 발급되는 access token 의 최대 유효 시간
+    public long getAccessTokenTtlMillis() {
+        return accessTokenTtl.toMillis();
+    }
+
+    private long jitteredTtlMillis() {
+        long ttl = accessTokenTtl.toMillis();
+        long maxJitter = (long) (ttl * accessTokenJitter);
+        return maxJitter > 0 ? ttl - ThreadLocalRandom.current().nextLong(maxJitter + 1) : ttl;
+    }
+
+    // UUID 문자열(36자) 대신 128bit 난수를 base64url(22자)로 써서 토큰 크기를 줄인다
+    private String newJti() {
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        return JTI_ENCODER.encodeToString(bytes);
+    }
+
     public String substringToken(String tokenValue) {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
             return tokenValue.substring(7);
@@ -57,10 +100,44 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return parser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    // 검증된 토큰이면 캐시에서 바로 돌려주고, 처음 보는 토큰만 서명 검증 + 파싱한다.
+    // 검증 실패/만료 시에는 extractClaims 와 같은 JwtException 을 던진다. 폐기 여부는 호출 측에서 확인한다.
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token, System.currentTimeMillis());
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = extractClaims(token);
+        AuthUser authUser = new AuthUser(
+                Long.valueOf(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.of(claims.get("userRole", String.class)),
+                claims.get("nickname", String.class)
+        );
+        VerifiedToken verified = new VerifiedToken(
+                authUser,
+                claims.getId(),
+                issuedAtMillis(claims),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : 0L
+        );
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(token, verified);
+        }
+        return verified;
+    }
+
+    // iat_ms 가 없는 (이전에 발급된) 토큰은 초 단위 iat 를 쓴다. 실제보다 이르게 보이므로 폐기 판정에서 보수적이다
+    private static long issuedAtMillis(Claims claims) {
+        Long millis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (millis != null) {
+            return millis;
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+    }
 }
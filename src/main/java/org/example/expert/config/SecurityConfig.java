@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -22,9 +23,10 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // cost 를 올리면 기존 해시는 다음 로그인 때 새 cost 로 다시 저장된다 (AuthService.signin)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-cost:10}") int bcryptCost) {
+        return new BCryptPasswordEncoder(bcryptCost);
     }
 
     @Bean
@@ -45,6 +47,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(request -> request.getRequestURI().startsWith("/auth")).permitAll()
                         .requestMatchers("/test").hasAuthority(String.valueOf(UserRole.ADMIN.getAuthority()))
+                        .requestMatchers("/admin/**").hasAuthority(String.valueOf(UserRole.ADMIN.getAuthority()))
                         .requestMatchers("/open").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,9 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+
+/**
+ * 서명 검증이 끝난 토큰에서 꺼낸 값. 폐기 여부 판정에 필요한 jti / iat 를 함께 보관한다.
+ */
+public record VerifiedToken(AuthUser authUser, String jti, long issuedAtMillis, long expiresAtMillis) {
+}
@@ -0,0 +1,161 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 토큰 → VerifiedToken(AuthUser + jti/iat) 캐시.
+ * <p>
+ * 같은 토큰이 반복해서 들어오므로 HMAC 검증과 Claims 파싱을 한 번만 하고, 이후에는 토큰의 SHA-256 다이제스트로 찾는다.
+ * 토큰 원문은 보관하지 않는다. 엔트리는 토큰의 exp 시각에 만료되며,
+ * 잠금 경합을 줄이기 위해 다이제스트 기준으로 stripe 를 나누고 stripe 마다 LRU 로 크기를 제한한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Stripe[] stripes;
+    private final int mask;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Counter expiredCounter;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.max-entries:100000}") int maxEntries,
+            @Value("${jwt.cache.stripes:16}") int stripes
+    ) {
+        this.enabled = enabled;
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes));
+        int perStripe = Math.max(1, maxEntries / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+        this.mask = stripeCount - 1;
+
+        this.hitCounter = meterRegistry.counter("jwt.verify.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.verify.cache", "result", "miss");
+        this.evictionCounter = meterRegistry.counter("jwt.verify.cache.evictions", "cause", "size");
+        this.expiredCounter = meterRegistry.counter("jwt.verify.cache.evictions", "cause", "expired");
+        Gauge.builder("jwt.verify.cache.size", this, VerifiedTokenCache::size).register(meterRegistry);
+    }
+
+    /** 캐시에 있고 아직 만료되지 않았으면 VerifiedToken, 아니면 null */
+    public VerifiedToken get(String token, long nowMillis) {
+        if (!enabled) {
+            return null;
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        Stripe stripe = stripeOf(digest);
+
+        synchronized (stripe) {
+            VerifiedToken entry = stripe.get(digest);
+            if (entry == null) {
+                missCounter.increment();
+                return null;
+            }
+            if (entry.expiresAtMillis() <= nowMillis) {
+                // 만료된 토큰은 파서가 ExpiredJwtException 을 던지도록 다시 검증 경로로 보낸다
+                stripe.remove(digest);
+                expiredCounter.increment();
+                missCounter.increment();
+                return null;
+            }
+            hitCounter.increment();
+            return entry;
+        }
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (!enabled) {
+            return;
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        Stripe stripe = stripeOf(digest);
+        synchronized (stripe) {
+            stripe.put(digest, verified);
+        }
+    }
+
+    public void invalidate(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        Stripe stripe = stripeOf(digest);
+        synchronized (stripe) {
+            stripe.remove(digest);
+        }
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    public long size() {
+        long total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.size();
+            }
+        }
+        return total;
+    }
+
+    private Stripe stripeOf(TokenDigest digest) {
+        return stripes[(int) digest.hi() & mask];
+    }
+
+    // SHA-256 의 앞 128bit. 충돌 확률은 무시할 수 있고 byte[] 보다 가볍게 비교/해시된다.
+    record TokenDigest(long hi, long lo) {
+
+        private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(TokenDigest::sha256);
+
+        static TokenDigest of(String token) {
+            ByteBuffer buf = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenDigest(buf.getLong(), buf.getLong());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private final class Stripe extends LinkedHashMap<TokenDigest, VerifiedToken> {
+
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true); // access-order → LRU
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TokenDigest, VerifiedToken> eldest) {
+            if (size() > capacity) {
+                evictionCounter.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
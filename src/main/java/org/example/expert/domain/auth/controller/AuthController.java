@@ -1,11 +1,14 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.service.AuthService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -17,13 +20,19 @@ public class AuthController {
 
     private final AuthService authService;
 
+    // remoteAddr 는 server.forward-headers-strategy 에 따라 프록시 뒤에서도 실제 클라이언트 IP 로 채워진다
     @PostMapping("/auth/signup")
-    public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest) {
-        return authService.signup(signupRequest);
+    public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest, HttpServletRequest request) {
+        return authService.signup(signupRequest, request.getRemoteAddr());
     }
 
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
-        return authService.signin(signinRequest);
+    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        return authService.signin(signinRequest, request.getRemoteAddr());
+    }
+
+    @PostMapping("/auth/refresh")
+    public TokenRefreshResponse refresh(@Valid @RequestBody TokenRefreshRequest tokenRefreshRequest) {
+        return authService.refresh(tokenRefreshRequest);
     }
 }
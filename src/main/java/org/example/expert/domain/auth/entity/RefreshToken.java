@@ -0,0 +1,44 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * refresh token 영속 기록. 토큰 원문은 저장하지 않고 id 와 secret 의 SHA-256 만 보관한다.
+ * id 는 발급 시 난수로 정한다.
+ */
+@Entity
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+                @Index(name = "ix_refresh_tokens_user_id", columnList = "user_id"),
+                @Index(name = "ix_refresh_tokens_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "secret_hash", nullable = false, length = 32)
+    private byte[] secretHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public RefreshToken(Long id, Long userId, byte[] secretHash, LocalDateTime expiresAt) {
+        this.id = id;
+        this.userId = userId;
+        this.secretHash = secretHash;
+        this.expiresAt = expiresAt;
+    }
+}
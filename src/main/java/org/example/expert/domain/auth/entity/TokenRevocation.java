@@ -0,0 +1,58 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토큰 폐기 기록.
+ * jti 가 있으면 해당 토큰 하나, 없으면 userId 의 issuedBefore 이전에 발급된 모든 토큰을 폐기한다.
+ * id 는 단조 증가하므로 각 노드는 마지막으로 적용한 id(워터마크) 이후만 읽어 따라잡는다.
+ */
+@Entity
+@Table(
+        name = "token_revocations",
+        indexes = {
+                @Index(name = "ix_token_revocations_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 사용자 단위 폐기: 이 시각(밀리초 단위)보다 먼저 발급된 토큰은 무효
+    @Column(name = "issued_before")
+    private LocalDateTime issuedBefore;
+
+    // 이 시각 이후에는 대상 토큰이 어차피 만료되므로 기록을 지워도 된다
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    private TokenRevocation(String jti, Long userId, LocalDateTime issuedBefore, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.userId = userId;
+        this.issuedBefore = issuedBefore;
+        this.expiresAt = expiresAt;
+    }
+
+    public static TokenRevocation ofToken(String jti, Long userId, LocalDateTime expiresAt) {
+        return new TokenRevocation(jti, userId, null, expiresAt);
+    }
+
+    public static TokenRevocation ofUser(Long userId, LocalDateTime issuedBefore, LocalDateTime expiresAt) {
+        return new TokenRevocation(null, userId, issuedBefore, expiresAt);
+    }
+}
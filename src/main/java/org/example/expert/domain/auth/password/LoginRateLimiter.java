@@ -0,0 +1,121 @@
+package org.example.expert.domain.auth.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * /auth/signin, /auth/signup 시도 횟수 제한 (이메일별, IP별).
+ * <p>
+ * 키마다 직전/현재 고정 구간의 카운트만 두고 직전 구간을 경과 비율만큼 가중해 합산하는 sliding window 근사를 쓴다.
+ * 키는 stripe 로 나눠 잠그고, stripe 마다 LRU 로 키 수를 제한해 무작위 이메일 공격에도 메모리가 늘지 않게 한다.
+ * bcrypt 실행 전에 확인하므로 제한에 걸린 요청은 CPU 를 쓰지 않는다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final long windowMillis;
+    private final int perEmailLimit;
+    private final int perIpLimit;
+    private final Stripe[] stripes;
+    private final int mask;
+
+    private final Counter emailLimitedCounter;
+    private final Counter ipLimitedCounter;
+
+    public LoginRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${auth.rate-limit.window:1m}") Duration window,
+            @Value("${auth.rate-limit.per-email:10}") int perEmailLimit,
+            @Value("${auth.rate-limit.per-ip:30}") int perIpLimit,
+            @Value("${auth.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${auth.rate-limit.stripes:16}") int stripes
+    ) {
+        this.windowMillis = window.toMillis();
+        this.perEmailLimit = perEmailLimit;
+        this.perIpLimit = perIpLimit;
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes));
+        int perStripe = Math.max(1, maxKeys / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+        this.mask = stripeCount - 1;
+
+        this.emailLimitedCounter = meterRegistry.counter("auth.rate.limited", "key", "email");
+        this.ipLimitedCounter = meterRegistry.counter("auth.rate.limited", "key", "ip");
+    }
+
+    /** IP 와 이메일 모두 한도 안이면 시도를 기록하고, 하나라도 넘으면 429 */
+    public void acquire(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (clientIp != null && !tryAcquire("ip:" + clientIp, perIpLimit, now)) {
+            ipLimitedCounter.increment();
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (email != null && !tryAcquire("email:" + email.toLowerCase(Locale.ROOT), perEmailLimit, now)) {
+            emailLimitedCounter.increment();
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    boolean tryAcquire(String key, int limit, long now) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        synchronized (stripe) {
+            Window window = stripe.computeIfAbsent(key, k -> new Window());
+            window.roll(now, windowMillis);
+
+            double elapsed = (double) (now - window.start) / windowMillis;
+            double estimated = window.previous * (1.0 - elapsed) + window.current;
+            if (estimated >= limit) {
+                return false;
+            }
+            window.current++;
+            return true;
+        }
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Window {
+        long start;
+        int previous;
+        int current;
+
+        void roll(long now, long windowMillis) {
+            long elapsedWindows = (now - start) / windowMillis;
+            if (elapsedWindows <= 0) {
+                return;
+            }
+            // 바로 다음 구간이면 현재 카운트를 직전으로 넘기고, 그보다 오래 지났으면 둘 다 비운다
+            previous = elapsedWindows == 1 ? current : 0;
+            current = 0;
+            start = now - (now % windowMillis);
+        }
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Window> {
+
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.expert.domain.auth.refresh;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+/**
+ * refresh token 발급/회전/폐기.
+ * <p>
+ * 토큰은 의미 없는 난수(id 8바이트 + secret 24바이트, base64url)이고, 서버는 id 와 secret 의 SHA-256 만 보관한다.
+ * 조회는 메모리 저장소(RefreshTokenStore)에서 하고 변경은 DB 에 먼저 쓴다(write-through).
+ * 한 번 쓴 토큰은 DB 에서 DELETE 가 1건일 때만 회전에 성공하므로, 여러 노드에 같은 토큰이 동시에 와도 한 번만 통과한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenManager {
+
+    private static final int ID_BYTES = 8;
+    private static final int SECRET_BYTES = 24;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String INVALID_TOKEN = "유효하지 않은 refresh token 입니다.";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long ttlMillis;
+    private final RefreshTokenStore store;
+    private final SecureRandom random = new SecureRandom();
+
+    private final Counter rotatedCounter;
+    private final Counter rejectedCounter;
+
+    public RefreshTokenManager(
+            RefreshTokenRepository refreshTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-token-ttl:14d}") Duration ttl,
+            @Value("${jwt.refresh-token-store.stripes:16}") int stripes
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttlMillis = ttl.toMillis();
+        this.store = new RefreshTokenStore(stripes);
+
+        this.rotatedCounter = meterRegistry.counter("auth.refresh", "result", "rotated");
+        this.rejectedCounter = meterRegistry.counter("auth.refresh", "result", "rejected");
+        Gauge.builder("auth.refresh.store.size", store, RefreshTokenStore::size).register(meterRegistry);
+    }
+
+    // 재기동 후에도 기존 토큰으로 갱신할 수 있도록 만료되지 않은 토큰을 메모리에 올린다
+    @PostConstruct
+    void load() {
+        for (RefreshToken token : refreshTokenRepository.findByExpiresAtAfter(LocalDateTime.now())) {
+            store.put(token.getId(), new RefreshTokenStore.Entry(
+                    token.getUserId(), token.getSecretHash(), toEpochMillis(token.getExpiresAt())));
+        }
+        log.info("refresh tokens loaded: {}", store.size());
+    }
+
+    public String issue(long userId) {
+        long id;
+        do {
+            id = random.nextLong();
+        } while (id == 0L); // 0 은 저장소의 빈 슬롯 표시
+
+        byte[] secret = new byte[SECRET_BYTES];
+        random.nextBytes(secret);
+        byte[] secretHash = sha256(secret);
+        long expiresAtMillis = System.currentTimeMillis() + ttlMillis;
+
+        refreshTokenRepository.insert(id, userId, secretHash, toLocalDateTime(expiresAtMillis));
+        store.put(id, new RefreshTokenStore.Entry(userId, secretHash, expiresAtMillis));
+
+        return ENCODER.encodeToString(ByteBuffer.allocate(ID_BYTES + SECRET_BYTES).putLong(id).put(secret).array());
+    }
+
+    /** 토큰을 소비하고 주인 userId 를 돌려준다. 이미 썼거나 만료/위조된 토큰이면 401 */
+    public long consume(String token) {
+        ByteBuffer buf = decode(token);
+        long id = buf.getLong();
+        byte[] secret = new byte[SECRET_BYTES];
+        buf.get(secret);
+
+        RefreshTokenStore.Entry entry = store.get(id);
+        if (entry == null) {
+            // 다른 노드에서 발급된 토큰일 수 있으므로 DB 확인
+            entry = refreshTokenRepository.findById(id)
+                    .map(t -> new RefreshTokenStore.Entry(t.getUserId(), t.getSecretHash(), toEpochMillis(t.getExpiresAt())))
+                    .orElseThrow(this::rejected);
+        }
+        if (!MessageDigest.isEqual(entry.secretHash(), sha256(secret))) {
+            throw rejected();
+        }
+        store.remove(id);
+        if (entry.expiresAtMillis() <= System.currentTimeMillis() || refreshTokenRepository.consume(id) != 1) {
+            throw rejected();
+        }
+
+        rotatedCounter.increment();
+        return entry.userId();
+    }
+
+    /** 해당 사용자의 refresh token 을 모두 폐기 (비밀번호 변경 등) */
+    public void revokeAllForUser(long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+        store.removeIf((id, entry) -> entry.userId() == userId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-store.sweep-interval:10m}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        int deleted = refreshTokenRepository.deleteExpired(toLocalDateTime(now));
+        int evicted = store.removeIf((id, entry) -> entry.expiresAtMillis() <= now);
+        log.info("refresh tokens swept: deleted={}, evicted={}, remaining={}", deleted, evicted, store.size());
+    }
+
+    private ByteBuffer decode(String token) {
+        try {
+            byte[] raw = DECODER.decode(token);
+            if (raw.length != ID_BYTES + SECRET_BYTES) {
+                throw rejected();
+            }
+            return ByteBuffer.wrap(raw);
+        } catch (IllegalArgumentException e) {
+            throw rejected();
+        }
+    }
+
+    private AuthException rejected() {
+        rejectedCounter.increment();
+        return new AuthException(INVALID_TOKEN);
+    }
+
+    private static byte[] sha256(byte[] secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.expert.domain.auth.refresh;
+
+import org.example.expert.domain.common.hash.LongHash;
+import org.example.expert.domain.common.hash.LongKeySlots;
+
+/**
+ * refresh token id(long) → (userId, secretHash, expiresAt) 메모리 저장소.
+ * <p>
+ * 토큰이 많아도 박싱/노드 객체가 생기지 않도록 stripe 마다 {@link LongKeySlots} 를 쓴다.
+ * 0 은 빈 슬롯 표시이므로 id 로 쓰지 않는다.
+ */
+final class RefreshTokenStore {
+
+    record Entry(long userId, byte[] secretHash, long expiresAtMillis) {
+    }
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    RefreshTokenStore(int stripes) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = stripeCount - 1;
+    }
+
+    void put(long id, Entry entry) {
+        Stripe stripe = stripeOf(id);
+        synchronized (stripe) {
+            stripe.put(id, entry);
+        }
+    }
+
+    Entry get(long id) {
+        Stripe stripe = stripeOf(id);
+        synchronized (stripe) {
+            return stripe.get(id);
+        }
+    }
+
+    Entry remove(long id) {
+        Stripe stripe = stripeOf(id);
+        synchronized (stripe) {
+            return stripe.remove(id);
+        }
+    }
+
+    /** 조건에 맞는 엔트리를 지우고 지운 개수를 돌려준다 (만료 정리, 사용자 단위 폐기) */
+    int removeIf(EntryPredicate predicate) {
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                removed += stripe.removeIf(predicate);
+            }
+        }
+        return removed;
+    }
+
+    long size() {
+        long total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.size();
+            }
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    interface EntryPredicate {
+        boolean test(long id, Entry entry);
+    }
+
+    private Stripe stripeOf(long id) {
+        return stripes[(int) (LongHash.mix(id) >>> 32) & mask];
+    }
+
+    private static final class Stripe extends LongKeySlots {
+
+        private Entry[] values = new Entry[16];
+
+        Stripe() {
+            super(16);
+        }
+
+        Entry get(long id) {
+            int slot = find(id);
+            return slot < 0 ? null : values[slot];
+        }
+
+        void put(long id, Entry entry) {
+            int slot = find(id);
+            if (slot >= 0) {
+                values[slot] = entry;
+                return;
+            }
+            if ((size() + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            values[insert(id)] = entry;
+        }
+
+        Entry remove(long id) {
+            int slot = find(id);
+            if (slot < 0) {
+                return null;
+            }
+            Entry removed = values[slot];
+            deleteSlot(slot);
+            return removed;
+        }
+
+        int removeIf(EntryPredicate predicate) {
+            return removeIf(slot -> predicate.test(keys[slot], values[slot]));
+        }
+
+        @Override
+        protected void moveSlot(int from, int to) {
+            values[to] = values[from];
+        }
+
+        @Override
+        protected void clearSlot(int slot) {
+            values[slot] = null;
+        }
+
+        private void resize(int capacity) {
+            Entry[] oldValues = values;
+            long[] oldKeys = reset(capacity);
+            values = new Entry[capacity];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    values[insert(oldKeys[i])] = oldValues[i];
+                }
+            }
+        }
+    }
+}
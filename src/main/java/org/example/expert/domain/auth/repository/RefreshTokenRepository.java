@@ -0,0 +1,40 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    List<RefreshToken> findByExpiresAtAfter(LocalDateTime now);
+
+    // id 를 직접 정하므로 save() 의 merge(SELECT + INSERT) 대신 바로 INSERT
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO refresh_tokens (id, user_id, secret_hash, expires_at) VALUES (:id, :userId, :secretHash, :expiresAt)",
+            nativeQuery = true)
+    void insert(@Param("id") long id, @Param("userId") long userId,
+                @Param("secretHash") byte[] secretHash, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 한 번만 쓸 수 있도록 삭제 결과(1 또는 0)로 소비 여부를 판단한다 (노드 간 경쟁도 DB 가 정리)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.id = :id")
+    int consume(@Param("id") long id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteAllByUserId(@Param("userId") long userId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
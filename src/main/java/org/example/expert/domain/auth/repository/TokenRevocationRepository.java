@@ -0,0 +1,24 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    // 워터마크 이후에 추가된 폐기 기록 (만료된 것은 제외)
+    @Query("SELECT r FROM TokenRevocation r WHERE r.id > :afterId AND r.expiresAt > :now ORDER BY r.id ASC")
+    List<TokenRevocation> findActiveAfter(@Param("afterId") long afterId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.auth.revocation;
+
+import org.example.expert.domain.common.hash.LongHash;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기 여부 1차 판정용 Bloom filter. false 면 확실히 폐기되지 않은 것, true 면 정확한 집합으로 다시 확인한다.
+ * 삭제를 지원하지 않으므로 만료 기록을 정리할 때 새로 만들어 교체한다.
+ */
+final class RevocationBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    RevocationBloomFilter(int expectedEntries, double falsePositiveRate) {
+        int n = Math.max(1, expectedEntries);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    void put(long key) {
+        long h1 = LongHash.mix(key);
+        long h2 = LongHash.mix(h1) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long prev;
+            while (((prev = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, prev, prev | mask)) {
+                // 다른 스레드가 같은 word 를 바꿨으면 재시도
+            }
+        }
+    }
+
+    boolean mightContain(long key) {
+        long h1 = LongHash.mix(key);
+        long h2 = LongHash.mix(h1) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // jti 와 userId 가 같은 필터를 쓰므로 서로 다른 seed 로 64bit 키를 만든다
+    static long jtiKey(String jti) {
+        long h = 0xcbf29ce484222325L; // FNV-1a
+        for (int i = 0; i < jti.length(); i++) {
+            h ^= jti.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    static long userKey(long userId) {
+        return LongHash.mix(userId ^ 0x9e3779b97f4a7c15L);
+    }
+}
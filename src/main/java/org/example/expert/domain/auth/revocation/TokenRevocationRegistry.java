@@ -0,0 +1,202 @@
+package org.example.expert.domain.auth.revocation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.VerifiedToken;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 폐기 목록.
+ * <p>
+ * 요청마다 DB 를 보지 않도록 폐기 기록을 메모리에 올려 두고 Bloom filter → 정확한 집합 순으로 확인한다.
+ * 대부분의 토큰은 폐기되지 않았으므로 Bloom filter 에서 바로 걸러진다.
+ * 다른 노드에서 추가한 기록은 token_revocations.id 워터마크 이후를 주기적으로 읽어 따라잡고,
+ * 대상 토큰이 모두 만료된 기록은 주기적으로 DB 와 메모리에서 지운다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    // IDENTITY id 는 커밋 순서와 다를 수 있으므로 워터마크보다 조금 앞에서부터 다시 읽는다 (적용은 멱등)
+    private static final long POLL_OVERLAP_IDS = 100;
+
+    private final TokenRevocationRepository revocationRepository;
+    private final JwtUtil jwtUtil;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final int pollBatchSize;
+
+    private final Map<String, LocalDateTime> revokedJtis = new ConcurrentHashMap<>();
+    private final Map<Long, UserCutoff> userCutoffs = new ConcurrentHashMap<>();
+    private volatile RevocationBloomFilter bloomFilter;
+    private final AtomicLong watermark = new AtomicLong();
+
+    private final Counter fastPathCounter;
+    private final Counter exactCheckCounter;
+    private final Counter revokedCounter;
+
+    public TokenRevocationRegistry(
+            TokenRevocationRepository revocationRepository,
+            JwtUtil jwtUtil,
+            MeterRegistry meterRegistry,
+            @Value("${auth.revocation.bloom.expected-entries:100000}") int expectedEntries,
+            @Value("${auth.revocation.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${auth.revocation.poll.batch-size:1000}") int pollBatchSize
+    ) {
+        this.revocationRepository = revocationRepository;
+        this.jwtUtil = jwtUtil;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.pollBatchSize = pollBatchSize;
+        this.bloomFilter = new RevocationBloomFilter(expectedEntries, falsePositiveRate);
+
+        this.fastPathCounter = meterRegistry.counter("auth.revocation.checks", "path", "bloom");
+        this.exactCheckCounter = meterRegistry.counter("auth.revocation.checks", "path", "exact");
+        this.revokedCounter = meterRegistry.counter("auth.revocation.checks", "path", "revoked");
+        Gauge.builder("auth.revocation.entries", this, TokenRevocationRegistry::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        poll();
+        log.info("token revocations loaded: entries={}, watermark={}", size(), watermark.get());
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        RevocationBloomFilter filter = bloomFilter;
+        Long userId = token.authUser().getId();
+        boolean jtiCandidate = token.jti() != null && filter.mightContain(RevocationBloomFilter.jtiKey(token.jti()));
+        boolean userCandidate = filter.mightContain(RevocationBloomFilter.userKey(userId));
+        if (!jtiCandidate && !userCandidate) {
+            fastPathCounter.increment();
+            return false;
+        }
+
+        exactCheckCounter.increment();
+        boolean revoked = (jtiCandidate && revokedJtis.containsKey(token.jti()))
+                || (userCandidate && isBeforeCutoff(userId, token.issuedAtMillis()));
+        if (revoked) {
+            revokedCounter.increment();
+        }
+        return revoked;
+    }
+
+    /** 토큰 하나를 폐기한다. 트랜잭션 안이면 커밋 후에 메모리에 반영한다. */
+    public void revokeToken(String jti, Long userId, long expiresAtMillis) {
+        TokenRevocation saved = revocationRepository.save(
+                TokenRevocation.ofToken(jti, userId, toLocalDateTime(expiresAtMillis)));
+        applyAfterCommit(saved);
+    }
+
+    /** 지금까지 해당 사용자에게 발급된 모든 토큰을 폐기한다 (권한/비밀번호 변경 등). */
+    public void revokeAllForUser(Long userId) {
+        // 발급 시각(JwtUtil 의 iat_ms)과 같은 밀리초 단위로 자른다. 폐기 직후 같은 초에 새로 발급한 토큰은 살아남는다
+        LocalDateTime issuedBefore = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        LocalDateTime expiresAt = issuedBefore.plus(jwtUtil.getAccessTokenTtlMillis(), ChronoUnit.MILLIS);
+        TokenRevocation saved = revocationRepository.save(TokenRevocation.ofUser(userId, issuedBefore, expiresAt));
+        applyAfterCommit(saved);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.poll.interval:5s}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        long afterId = Math.max(0L, watermark.get() - POLL_OVERLAP_IDS);
+
+        List<TokenRevocation> batch;
+        do {
+            batch = revocationRepository.findActiveAfter(afterId, now, PageRequest.of(0, pollBatchSize));
+            for (TokenRevocation revocation : batch) {
+                apply(revocation);
+                afterId = revocation.getId();
+            }
+        } while (batch.size() == pollBatchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.purge.interval:10m}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = revocationRepository.deleteExpired(now);
+
+        revokedJtis.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        userCutoffs.values().removeIf(cutoff -> !cutoff.expiresAt().isAfter(now));
+        rebuildBloomFilter();
+
+        log.info("token revocations purged: deleted={}, remaining={}", deleted, size());
+    }
+
+    public long size() {
+        return revokedJtis.size() + userCutoffs.size();
+    }
+
+    private void applyAfterCommit(TokenRevocation revocation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(revocation);
+                }
+            });
+        } else {
+            apply(revocation);
+        }
+    }
+
+    private void apply(TokenRevocation revocation) {
+        // 정확한 집합을 먼저 채운 뒤 Bloom filter 에 넣어야 동시에 확인하는 요청이 놓치지 않는다
+        if (revocation.getJti() != null) {
+            revokedJtis.put(revocation.getJti(), revocation.getExpiresAt());
+            bloomFilter.put(RevocationBloomFilter.jtiKey(revocation.getJti()));
+        } else {
+            long cutoff = revocation.getIssuedBefore().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            userCutoffs.merge(revocation.getUserId(), new UserCutoff(cutoff, revocation.getExpiresAt()), UserCutoff::max);
+            bloomFilter.put(RevocationBloomFilter.userKey(revocation.getUserId()));
+        }
+        watermark.accumulateAndGet(revocation.getId(), Math::max);
+    }
+
+    private boolean isBeforeCutoff(Long userId, long issuedAtMillis) {
+        UserCutoff cutoff = userCutoffs.get(userId);
+        return cutoff != null && issuedAtMillis < cutoff.issuedBeforeMillis();
+    }
+
+    private void rebuildBloomFilter() {
+        RevocationBloomFilter rebuilt = new RevocationBloomFilter(expectedEntries, falsePositiveRate);
+        revokedJtis.keySet().forEach(jti -> rebuilt.put(RevocationBloomFilter.jtiKey(jti)));
+        userCutoffs.keySet().forEach(userId -> rebuilt.put(RevocationBloomFilter.userKey(userId)));
+        bloomFilter = rebuilt;
+        // 교체 사이에 추가된 기록이 빠지지 않도록 한 번 더 반영
+        revokedJtis.keySet().forEach(jti -> rebuilt.put(RevocationBloomFilter.jtiKey(jti)));
+        userCutoffs.keySet().forEach(userId -> rebuilt.put(RevocationBloomFilter.userKey(userId)));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record UserCutoff(long issuedBeforeMillis, LocalDateTime expiresAt) {
+
+        static UserCutoff max(UserCutoff a, UserCutoff b) {
+            return a.issuedBeforeMillis() >= b.issuedBeforeMillis() ? a : b;
+        }
+    }
+}
@@ -4,15 +4,20 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.password.LoginRateLimiter;
+import org.example.expert.domain.auth.password.PasswordHasher;
+import org.example.expert.domain.auth.refresh.RefreshTokenManager;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -21,17 +26,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginRateLimiter loginRateLimiter;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenManager refreshTokenManager;
 
-    @Transactional
-    public SignupResponse signup(SignupRequest signupRequest) {
+    // bcrypt 대기 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행 (save 는 자체 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SignupResponse signup(SignupRequest signupRequest, String clientIp) {
+        loginRateLimiter.acquire(signupRequest.getEmail(), clientIp);
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = passwordHasher.encode(signupRequest.getPassword());
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
@@ -45,20 +54,43 @@ public class AuthService {
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getNickname());
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshTokenManager.issue(savedUser.getId()));
     }
 
-    public SigninResponse signin(SigninRequest signinRequest) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SigninResponse signin(SigninRequest signinRequest, String clientIp) {
+        loginRateLimiter.acquire(signinRequest.getEmail(), clientIp);
+
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // bcrypt cost 를 올린 뒤 처음 로그인하면 평문을 알고 있는 지금 새 cost 로 다시 저장
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user.changePassword(passwordHasher.encode(signinRequest.getPassword()));
+            userRepository.save(user);
+        }
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
+
+        return new SigninResponse(bearerToken, refreshTokenManager.issue(user.getId()));
+    }
+
+    // refresh token 은 한 번만 쓸 수 있고, 쓸 때마다 새 refresh token 을 함께 발급한다 (rotation)
+    // access token 은 현재 DB 의 권한/닉네임으로 새로 만든다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        long userId = refreshTokenManager.consume(tokenRefreshRequest.getRefreshToken());
+
+        User user = userRepository.findById(userId).orElseThrow(
+                () -> new AuthException("가입되지 않은 유저입니다."));
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
 
-        return new SigninResponse(bearerToken);
+        return new TokenRefreshResponse(bearerToken, refreshTokenManager.issue(user.getId()));
     }
 }
@@ -4,33 +4,54 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
-import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentSaveResult;
+import org.example.expert.domain.comment.ingest.CommentIngestQueue;
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentStreamService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
+    private final CommentIngestQueue commentIngestQueue;
 
+    // comment.ingest.mode=queued 이면 큐에 넣고 202 + 임시 id (CommentAcceptedResponse), 아니면 바로 저장 (CommentSaveResponse)
     @PostMapping("/todos/{todoId}/comments")
-    public ResponseEntity<CommentSaveResponse> saveComment(
+    public ResponseEntity<CommentSaveResult> saveComment(
             @AuthenticationPrincipal AuthUser authUser,
             @PathVariable long todoId,
             @Valid @RequestBody CommentSaveRequest commentSaveRequest
     ) {
+        if (commentIngestQueue.isEnabled()) {
+            return ResponseEntity.accepted().body(commentIngestQueue.accept(authUser, todoId, commentSaveRequest));
+        }
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<CursorResponse<CommentResponse>> getComments(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getComments(todoId, cursor, size));
+    }
+
+    // 전체 댓글이 필요한 클라이언트용: 한 줄에 댓글 하나 (NDJSON)
+    @GetMapping("/todos/{todoId}/comments/stream")
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable long todoId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(commentStreamService.stream(todoId));
     }
 }
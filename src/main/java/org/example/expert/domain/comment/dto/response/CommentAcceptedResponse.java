@@ -0,0 +1,14 @@
+package org.example.expert.domain.comment.dto.response;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+/**
+ * 큐 적재 모드(comment.ingest.mode=queued)의 댓글 등록 응답.
+ * 실제 id 는 writer 가 저장할 때 정해지므로 임시 id 만 돌려준다.
+ */
+public record CommentAcceptedResponse(
+        String provisionalId,
+        String contents,
+        UserResponse user
+) implements CommentSaveResult {
+}
@@ -3,16 +3,25 @@ package org.example.expert.domain.comment.dto.response;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class CommentResponse {
 
     private final Long id;
     private final String contents;
     private final UserResponse user;
+    private final LocalDateTime createdAt;
 
-    public CommentResponse(Long id, String contents, UserResponse user) {
+    public CommentResponse(Long id, String contents, UserResponse user, LocalDateTime createdAt) {
         this.id = id;
         this.contents = contents;
         this.user = user;
+        this.createdAt = createdAt;
+    }
+
+    // 조회 쿼리에서 엔티티 없이 바로 만드는 projection 용 (JPQL constructor expression 은 중첩 생성을 지원하지 않음)
+    public CommentResponse(Long id, String contents, LocalDateTime createdAt, Long userId, String email, String nickname) {
+        this(id, contents, new UserResponse(userId, email, nickname), createdAt);
     }
 }
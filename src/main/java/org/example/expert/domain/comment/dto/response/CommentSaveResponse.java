@@ -4,7 +4,7 @@ import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
 @Getter
-public class CommentSaveResponse {
+public final class CommentSaveResponse implements CommentSaveResult {
 
     private final Long id;
     private final String contents;
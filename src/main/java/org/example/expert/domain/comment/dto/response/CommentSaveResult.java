@@ -0,0 +1,7 @@
+package org.example.expert.domain.comment.dto.response;
+
+/**
+ * 댓글 등록 응답. 바로 저장하면 {@link CommentSaveResponse}(200), 큐에 넣으면 {@link CommentAcceptedResponse}(202) 이다.
+ */
+public sealed interface CommentSaveResult permits CommentSaveResponse, CommentAcceptedResponse {
+}
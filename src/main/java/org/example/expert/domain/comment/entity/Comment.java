@@ -10,13 +10,26 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(
+        name = "comments",
+        indexes = {
+                // todo 별 댓글 키셋 페이징/스트리밍: todo_id 동등 + (created_at, id) 순서
+                @Index(name = "ix_comments_todo_id_created_at_id", columnList = "todo_id, created_at, id")
+        },
+        uniqueConstraints = {
+                // 큐 적재 모드의 임시 id. 저널 재처리 시 이미 저장된 댓글을 건너뛰는 데 쓴다 (sync 모드는 NULL)
+                @UniqueConstraint(name = "ux_comments_provisional_id", columnNames = "provisional_id")
+        }
+)
 public class Comment extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String contents;
 
+    @Column(name = "provisional_id", length = 36, updatable = false)
+    private String provisionalId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,381 @@
+package org.example.expert.domain.comment.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentAcceptedResponse;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.common.hash.LongHash;
+import org.example.expert.domain.common.journal.AppendOnlyJournal;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 댓글 write-behind 적재 (comment.ingest.mode=queued).
+ * <p>
+ * 요청 스레드는 todo id 로 고른 shard 의 저널에 한 줄 쓰고 큐에 넣은 뒤 임시 id 를 돌려준다 (DB 접근 없음).
+ * shard 마다 writer 스레드 하나가 batch-size 만큼 모이거나 flush-interval 이 지나면 한 트랜잭션으로 저장한다:
+ * todo 별로 comment_count 를 한 번에 올려 존재 여부를 확인하고(0 이면 버림), 나머지를 multi-row INSERT 한다.
+ * 같은 todo 는 항상 같은 shard 로 가므로 todos 행 락을 writer 끼리 다투지 않는다.
+ * 큐가 가득 차면 기다리지 않고 429 로 거절한다. 저널 commit 직전에 죽어 재기동 시 다시 처리하는 댓글은 provisional_id 로
+ * 이미 저장된 것을 건너뛰므로 중복 저장되거나 comment_count 가 두 번 오르지 않는다.
+ * mode=sync(기본)이면 이 컴포넌트는 아무 것도 띄우지 않고 CommentService.saveComment 가 그대로 쓰인다.
+ */
+@Slf4j
+@Component
+public class CommentIngestQueue {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO comments (provisional_id, contents, user_id, todo_id, created_at, modified_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?)";
+    private static final String STORED_PREFIX = "SELECT provisional_id FROM comments WHERE provisional_id IN ";
+    private static final String JOURNAL_PREFIX = "shard-";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private final TodoRepository todoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate txTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int shardCount;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Path journalDir;
+    private final boolean fsync;
+
+    private Shard[] shards = new Shard[0];
+    private volatile boolean running;
+
+    private final Timer flushTimer;
+    private final Counter acceptedCounter;
+    private final Counter throttledCounter;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+
+    public CommentIngestQueue(
+            TodoRepository todoRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${comment.ingest.mode:sync}") String mode,
+            @Value("${comment.ingest.shards:4}") int shards,
+            @Value("${comment.ingest.queue-capacity:4096}") int queueCapacity,
+            @Value("${comment.ingest.batch-size:200}") int batchSize,
+            @Value("${comment.ingest.flush-interval:100ms}") Duration flushInterval,
+            @Value("${comment.ingest.journal.dir:data/comment-ingest}") String journalDir,
+            @Value("${comment.ingest.journal.fsync:false}") boolean fsync
+    ) {
+        this.todoRepository = todoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.enabled = "queued".equalsIgnoreCase(mode);
+        this.shardCount = Math.max(1, shards);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.journalDir = Path.of(journalDir);
+        this.fsync = fsync;
+
+        this.flushTimer = meterRegistry.timer("comment.ingest.flush");
+        this.acceptedCounter = meterRegistry.counter("comment.ingest", "result", "accepted");
+        this.throttledCounter = meterRegistry.counter("comment.ingest", "result", "throttled");
+        this.writtenCounter = meterRegistry.counter("comment.ingest.written");
+        this.droppedCounter = meterRegistry.counter("comment.ingest.dropped");
+        Gauge.builder("comment.ingest.queue.depth", this, CommentIngestQueue::depth).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        // shard 수를 줄여 기동한 경우 남은 저널부터 비운다
+        recoverOrphanJournals();
+
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(journal(journalPath(i)));
+            shards[i].recover();
+        }
+
+        running = true;
+        for (int i = 0; i < shardCount; i++) {
+            Thread thread = new Thread(shards[i]::run, "comment-ingest-" + i);
+            thread.setDaemon(true);
+            shards[i].thread = thread;
+            thread.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 댓글을 저널과 큐에 넣고 임시 id 를 돌려준다. todo 존재 여부는 writer 가 저장할 때 확인한다. */
+    public CommentAcceptedResponse accept(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
+        PendingComment comment = new PendingComment(0L, UUID.randomUUID().toString(), todoId, authUser.getId(),
+                commentSaveRequest.getContents(), LocalDateTime.now());
+        shards[shardIndex(todoId)].accept(comment);
+        acceptedCounter.increment();
+
+        return new CommentAcceptedResponse(
+                comment.provisionalId(),
+                comment.contents(),
+                new UserResponse(authUser.getId(), authUser.getEmail(), authUser.getNickname())
+        );
+    }
+
+    @PreDestroy
+    void stop() throws IOException, InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        for (Shard shard : shards) {
+            if (shard.thread != null) {
+                LockSupport.unpark(shard.thread);
+                shard.thread.join(TimeUnit.SECONDS.toMillis(10));
+            }
+            shard.journal.close();
+        }
+    }
+
+    private int shardIndex(long todoId) {
+        return (int) Math.floorMod(LongHash.mix(todoId), (long) shardCount);
+    }
+
+    private double depth() {
+        int total = 0;
+        for (Shard shard : shards) {
+            total += shard.queue.size();
+        }
+        return total;
+    }
+
+    private AppendOnlyJournal<PendingComment> journal(Path path) {
+        return new AppendOnlyJournal<>(path, PendingComment.class, objectMapper, fsync);
+    }
+
+    private Path journalPath(int index) {
+        return journalDir.resolve(JOURNAL_PREFIX + index + JOURNAL_SUFFIX);
+    }
+
+    private void recoverOrphanJournals() throws IOException {
+        if (!Files.isDirectory(journalDir)) {
+            return;
+        }
+        List<Path> orphans;
+        try (Stream<Path> files = Files.list(journalDir)) {
+            orphans = files.filter(p -> {
+                String name = p.getFileName().toString();
+                if (!name.startsWith(JOURNAL_PREFIX) || !name.endsWith(JOURNAL_SUFFIX)) {
+                    return false;
+                }
+                String index = name.substring(JOURNAL_PREFIX.length(), name.length() - JOURNAL_SUFFIX.length());
+                return index.chars().allMatch(Character::isDigit) && Integer.parseInt(index) >= shardCount;
+            }).toList();
+        }
+        for (Path path : orphans) {
+            try (AppendOnlyJournal<PendingComment> journal = journal(path)) {
+                flushAll(journal, journal.recover());
+            }
+            Files.delete(path);
+        }
+    }
+
+    // 복구용: 저널의 남은 댓글을 batch-size 씩 저장
+    private void flushAll(AppendOnlyJournal<PendingComment> journal, List<PendingComment> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        log.info("댓글 저널 복구: {}건", pending.size());
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            flush(journal, pending.subList(from, Math.min(from + batchSize, pending.size())));
+        }
+    }
+
+    private void flush(AppendOnlyJournal<PendingComment> journal, List<PendingComment> batch) {
+        Timer.Sample sample = Timer.start();
+        // todo id 순으로 묶어 comment_count UPDATE 를 todo 당 한 번만, 항상 같은 순서로
+        Map<Long, List<PendingComment>> byTodo = batch.stream()
+                .collect(Collectors.groupingBy(PendingComment::todoId, TreeMap::new, Collectors.toList()));
+
+        int written = 0;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                written = txTemplate.execute(status -> persist(byTodo));
+                break;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_BATCH_ATTEMPTS) {
+                    // 배치 전체가 계속 실패하면 todo 단위로 나눠 문제 todo 의 댓글만 버린다
+                    log.error("댓글 배치 저장 실패 ({}건), todo 별 저장으로 전환: {}", batch.size(), e.getMessage());
+                    written = persistOneByOne(byTodo);
+                    break;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(200L * attempt));
+            }
+        }
+        writtenCounter.increment(written);
+        droppedCounter.increment(batch.size() - written);
+        sample.stop(flushTimer);
+
+        try {
+            journal.commit(batch.get(batch.size() - 1).seq());
+        } catch (IOException e) {
+            log.warn("댓글 저널 commit 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private int persistOneByOne(Map<Long, List<PendingComment>> byTodo) {
+        int written = 0;
+        for (Map.Entry<Long, List<PendingComment>> entry : byTodo.entrySet()) {
+            try {
+                Map<Long, List<PendingComment>> single = Collections.singletonMap(entry.getKey(), entry.getValue());
+                written += txTemplate.execute(status -> persist(single));
+            } catch (RuntimeException e) {
+                log.error("댓글 저장 실패로 버립니다: todoId={}, {}건", entry.getKey(), entry.getValue().size(), e);
+            }
+        }
+        return written;
+    }
+
+    // 저장된 댓글 수(이미 저장되어 있던 것 포함)를 돌려준다
+    private int persist(Map<Long, List<PendingComment>> byTodo) {
+        // 저널 commit 직전에 죽었다 재처리하는 댓글은 이미 들어가 있으므로 provisional_id 로 걸러
+        // 다시 넣지도, comment_count 를 다시 올리지도 않는다 (ux_comments_provisional_id 가 최종 보장)
+        Set<String> stored = findStored(byTodo);
+        List<PendingComment> rows = new ArrayList<>();
+        for (Map.Entry<Long, List<PendingComment>> entry : byTodo.entrySet()) {
+            List<PendingComment> fresh = entry.getValue().stream()
+                    .filter(c -> !stored.contains(c.provisionalId()))
+                    .toList();
+            if (fresh.isEmpty()) {
+                continue;
+            }
+            // 실제로 넣을 건수만큼 댓글 수 증가(원자적 UPDATE)로 존재 여부까지 확인 – todo 당 배치마다 한 번
+            if (todoRepository.addCommentCount(entry.getKey(), fresh.size()) == 0) {
+                log.warn("없는 todo 의 댓글을 버립니다: todoId={}, {}건", entry.getKey(), fresh.size());
+                continue;
+            }
+            rows.addAll(fresh);
+        }
+        if (rows.isEmpty()) {
+            return stored.size();
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), INSERT_ROW));
+        jdbcTemplate.update(sql, ps -> {
+            int p = 1;
+            for (PendingComment row : rows) {
+                Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+                ps.setString(p++, row.provisionalId());
+                ps.setString(p++, row.contents());
+                ps.setLong(p++, row.userId());
+                ps.setLong(p++, row.todoId());
+                ps.setTimestamp(p++, createdAt);
+                ps.setTimestamp(p++, createdAt);
+            }
+        });
+        return stored.size() + rows.size();
+    }
+
+    private Set<String> findStored(Map<Long, List<PendingComment>> byTodo) {
+        List<String> ids = byTodo.values().stream().flatMap(List::stream).map(PendingComment::provisionalId).toList();
+        String sql = STORED_PREFIX + "(" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, ids.toArray()));
+    }
+
+    private final class Shard {
+
+        private final AppendOnlyJournal<PendingComment> journal;
+        private final ArrayBlockingQueue<PendingComment> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private Thread thread;
+
+        private Shard(AppendOnlyJournal<PendingComment> journal) {
+            this.journal = journal;
+        }
+
+        // 자리 확인 → 저널 → 큐 를 한 번에 해야 저널에만 남고 큐에 못 들어가는 댓글이 생기지 않는다
+        private synchronized void accept(PendingComment comment) {
+            if (queue.remainingCapacity() == 0) {
+                throttledCounter.increment();
+                throw new TooManyRequestsException("댓글 요청이 많아 잠시 후 다시 시도해주세요.");
+            }
+            PendingComment sequenced;
+            try {
+                sequenced = journal.append(comment);
+            } catch (IOException e) {
+                log.error("댓글 저널 기록 실패: {}", e.getMessage());
+                throw new ServiceUnavailableException("댓글을 저장할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            queue.add(sequenced); // 소비자는 꺼내기만 하므로 위에서 확인한 자리가 남아 있다
+        }
+
+        private void recover() {
+            flushAll(journal, journal.recover());
+            try {
+                journal.commit(journal.lastSeq());
+            } catch (IOException e) {
+                log.warn("댓글 저널 commit 기록 실패: {}", e.getMessage());
+            }
+        }
+
+        private void run() {
+            List<PendingComment> batch = new ArrayList<>(batchSize);
+            long lastFlush = System.nanoTime();
+
+            while (running || !queue.isEmpty()) {
+                queue.drainTo(batch, batchSize - batch.size());
+
+                boolean full = batch.size() >= batchSize;
+                boolean due = System.nanoTime() - lastFlush >= flushIntervalNanos;
+                if (!batch.isEmpty() && (full || due || !running)) {
+                    flush(journal, batch);
+                    batch.clear();
+                    lastFlush = System.nanoTime();
+                } else if (!full) {
+                    LockSupport.parkNanos(Math.min(flushIntervalNanos, TimeUnit.MILLISECONDS.toNanos(50)));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.comment.ingest;
+
+import org.example.expert.domain.common.journal.JournalEntry;
+
+import java.time.LocalDateTime;
+
+/**
+ * 큐/저널에 담기는 아직 저장되지 않은 댓글 한 건. seq 는 shard 저널 안에서의 순번이다.
+ */
+public record PendingComment(
+        long seq,
+        String provisionalId,
+        long todoId,
+        long userId,
+        String contents,
+        LocalDateTime createdAt
+) implements JournalEntry<PendingComment> {
+
+    @Override
+    public PendingComment withSeq(long seq) {
+        return new PendingComment(seq, provisionalId, todoId, userId, contents, createdAt);
+    }
+}
@@ -1,15 +1,7 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
-import java.util.List;
-
-public interface CommentRepository extends JpaRepository<Comment, Long> {
-
-    @EntityGraph(attributePaths = {"user"})
-    List<Comment> findByTodo_Id(Long todoId);
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 }
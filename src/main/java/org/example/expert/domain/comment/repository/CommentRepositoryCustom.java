@@ -0,0 +1,16 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.Cursor;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface CommentRepositoryCustom {
+
+    // 키셋 페이징: cursor 이후 (createdAt, id) 오름차순으로 limit 건 (작성자 정보까지 projection)
+    List<CommentResponse> findPageAfter(long todoId, Cursor cursor, int limit);
+
+    // StatelessSession + forward-only 커서로 todo 의 댓글 전체를 (createdAt, id) 순으로 한 행씩 흘려보낸다
+    void streamByTodoId(long todoId, int fetchSize, Consumer<CommentResponse> consumer);
+}
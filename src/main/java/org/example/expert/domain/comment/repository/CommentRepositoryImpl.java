@@ -0,0 +1,85 @@
+package org.example.expert.domain.comment.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.QComment;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.user.entity.QUser;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private static final QComment COMMENT = QComment.comment;
+    private static final QUser USER = QUser.user;
+
+    private static final String STREAM_QUERY =
+            "select new org.example.expert.domain.comment.dto.response.CommentResponse("
+                    + "c.id, c.contents, c.createdAt, u.id, u.email, u.nickname) "
+                    + "from Comment c join c.user u "
+                    + "where c.todo.id = :todoId "
+                    + "order by c.createdAt, c.id";
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public List<CommentResponse> findPageAfter(long todoId, Cursor cursor, int limit) {
+        BooleanBuilder where = new BooleanBuilder(COMMENT.todo.id.eq(todoId));
+        if (cursor != null) {
+            // (createdAt, id) > (cursor.at, cursor.id).
+            // (todo_id, created_at, id) 인덱스에서 범위로 시작 위치를 잡도록 createdAt >= cursor.at 을 먼저 AND 로 건다
+            where.and(COMMENT.createdAt.goe(cursor.at()))
+                    .and(COMMENT.createdAt.gt(cursor.at()).or(COMMENT.id.gt(cursor.id())));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(
+                        CommentResponse.class,
+                        COMMENT.id,
+                        COMMENT.contents,
+                        COMMENT.createdAt,
+                        USER.id,
+                        USER.email,
+                        USER.nickname
+                ))
+                .from(COMMENT)
+                .join(COMMENT.user, USER)
+                .where(where)
+                .orderBy(COMMENT.createdAt.asc(), COMMENT.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public void streamByTodoId(long todoId, int fetchSize, Consumer<CommentResponse> consumer) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction tx = session.beginTransaction();
+            org.hibernate.query.Query<CommentResponse> query = session.createQuery(STREAM_QUERY, CommentResponse.class);
+            query.setParameter("todoId", todoId);
+            query.setFetchSize(fetchSize);
+            query.setReadOnly(true);
+
+            try (ScrollableResults<CommentResponse> rows = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                while (rows.next()) {
+                    consumer.accept(rows.get());
+                }
+            }
+            tx.commit();
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -15,7 +17,6 @@ import org.example.expert.domain.user.entity.User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -29,8 +30,11 @@ public class CommentService {
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        // 댓글 수 증가(원자적 UPDATE)로 존재 여부까지 확인 – 별도 SELECT 없이 프록시만 참조
+        if (todoRepository.addCommentCount(todoId, 1) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -47,19 +51,10 @@ public class CommentService {
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodo_Id(todoId);
+    public CursorResponse<CommentResponse> getComments(long todoId, String cursor, int size) {
+        CursorResponse.validateSize(size);
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail(),  user.getNickname())
-            );
-            dtoList.add(dto);
-        }
-        return dtoList;
+        List<CommentResponse> rows = commentRepository.findPageAfter(todoId, Cursor.decode(cursor), size + 1);
+        return CursorResponse.of(rows, size, row -> new Cursor(row.getCreatedAt(), row.getId()));
     }
 }
@@ -0,0 +1,56 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.ndjson.NdjsonWriter;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * todo 의 댓글 전체를 NDJSON 으로 스트리밍한다 (한 줄에 CommentResponse 하나).
+ * TodoExportService 와 같이 DB 커서 → 응답 스트림으로 흘려보내므로 댓글 수와 관계없이 힙 사용량이 일정하다.
+ */
+@Service
+public class CommentStreamService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public CommentStreamService(
+            CommentRepository commentRepository,
+            ObjectMapper objectMapper,
+            @Value("${comment.stream.fetch-size:1000}") int fetchSize
+    ) {
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public StreamingResponseBody stream(long todoId) {
+        return out -> {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+                 NdjsonWriter ndjson = new NdjsonWriter(objectMapper, writer)) {
+                commentRepository.streamByTodoId(todoId, fetchSize, comment -> {
+                    try {
+                        ndjson.write(comment);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.common.annotation;
+
+import org.example.expert.domain.log.enums.LogAction;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 붙인 메서드 호출을 감사 로그(logs)로 남긴다. 요청자, 대상, 성공/실패, 소요 시간(wall/CPU)을 기록한다.
+ * 기록 비율은 audit.sampling.&lt;action&gt; 으로 조정하며, 실패는 항상 기록한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Audited {
+
+    LogAction action();
+
+    /** 대상 id 를 담은 파라미터 이름 (숫자 타입). 비우면 targetId 없이 기록 */
+    String target() default "";
+}
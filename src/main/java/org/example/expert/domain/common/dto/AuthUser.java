@@ -3,10 +3,8 @@ package org.example.expert.domain.common.dto;
 import lombok.Getter;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Collection;
-import java.util.List;
 
 @Getter
 public class AuthUser {
@@ -24,7 +22,7 @@ public class AuthUser {
     }
 
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(userRole.getAuthority()));
+        return userRole.getAuthorities();
     }
 
 }
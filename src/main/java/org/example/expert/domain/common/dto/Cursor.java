@@ -0,0 +1,37 @@
+package org.example.expert.domain.common.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이징용 커서. 마지막으로 내려준 행의 (정렬 시각, id) 쌍을 담는다.
+ * 클라이언트에는 Base64 URL 문자열로만 노출되므로 내부 형식은 바꿔도 된다.
+ */
+public record Cursor(LocalDateTime at, long id) {
+
+    private static final String SEPARATOR = ",";
+
+    public String encode() {
+        String raw = at + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 빈 문자열/null 은 첫 페이지를 의미하므로 null 을 반환한다.
+     */
+    public static Cursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
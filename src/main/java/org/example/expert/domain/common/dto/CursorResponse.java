@@ -0,0 +1,34 @@
+package org.example.expert.domain.common.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이징 응답. 전체 건수(count 쿼리) 없이 다음 커서만 내려준다.
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * size+1 건을 조회한 결과를 받아, 초과분이 있으면 잘라내고 마지막 행으로 다음 커서를 만든다.
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+
+    public static int validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.common.entity;
+
+/**
+ * IDENTITY 대신 사용하는 테이블 기반 pooled 시퀀스 설정 (MySQL/H2 공통).
+ * 한 번의 시퀀스 조회로 ALLOCATION_SIZE 개의 id 를 확보하므로 INSERT 를 JDBC 배치로 묶을 수 있다.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "seq_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String TODOS = "todos";
+    public static final String MANAGERS = "managers";
+
+    private IdSequences() {
+    }
+}
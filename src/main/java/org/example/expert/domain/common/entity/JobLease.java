@@ -0,0 +1,34 @@
+package org.example.expert.domain.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 노드 중 한 곳에서만 돌아야 하는 배치 작업의 임대(lease).
+ * 갱신은 JobLeaseManager 가 JDBC 로 하고, 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Table(name = "job_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLease {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    // 잡고 있는 노드 (JobLeaseManager 인스턴스마다 다름)
+    @Column(nullable = false, length = 128)
+    private String owner;
+
+    // 이 시각이 지나면 다른 노드가 가져갈 수 있다
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
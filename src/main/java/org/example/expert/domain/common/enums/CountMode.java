@@ -0,0 +1,25 @@
+package org.example.expert.domain.common.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+/**
+ * 페이지 응답의 전체 건수를 어떻게 구할지 결정한다.
+ */
+public enum CountMode {
+    EXACT,    // 매 요청마다 COUNT 쿼리 (기본값)
+    CACHED,   // 정규화된 검색 조건별로 TTL 캐시
+    ESTIMATE, // 테이블 통계(information_schema) 추정치, 조건이 있으면 CACHED 로 대체
+    NONE;     // 건수 없이 size+1 조회로 hasNext 만 계산한 Slice
+
+    public static CountMode of(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        return Arrays.stream(CountMode.values())
+                .filter(m -> m.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 count 옵션"));
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.common.hash;
+
+/**
+ * long 키용 해시 함수 모음.
+ */
+public final class LongHash {
+
+    private LongHash() {
+    }
+
+    /** splitmix64 finalizer. 연속된 id 도 상위/하위 비트가 고르게 퍼진다 */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.domain.common.hash;
+
+/**
+ * 박싱 없는 long 집합. 키 0 은 쓰지 않으며(id 는 1 부터), 동기화는 호출하는 쪽이 맡는다.
+ */
+public final class LongHashSet extends LongKeySlots {
+
+    public LongHashSet() {
+        super(16);
+    }
+
+    /** 새로 넣었으면 true */
+    public boolean add(long key) {
+        if (find(key) >= 0) {
+            return false;
+        }
+        if ((size() + 1) * 2 > keys.length) {
+            long[] old = reset(keys.length * 2);
+            for (long k : old) {
+                if (k != 0) {
+                    insert(k);
+                }
+            }
+        }
+        insert(key);
+        return true;
+    }
+
+    public boolean contains(long key) {
+        return find(key) >= 0;
+    }
+
+    /** 있었으면 지우고 true */
+    public boolean remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        deleteSlot(slot);
+        return true;
+    }
+
+    /** 키 배열이 차지하는 바이트 수 */
+    public long capacityBytes() {
+        return (long) keys.length * Long.BYTES;
+    }
+
+    @Override
+    protected void moveSlot(int from, int to) {
+        // 값이 없으므로 옮길 것이 없다
+    }
+
+    @Override
+    protected void clearSlot(int slot) {
+        // 값이 없으므로 지울 것이 없다
+    }
+}
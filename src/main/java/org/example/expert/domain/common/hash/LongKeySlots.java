@@ -0,0 +1,102 @@
+package org.example.expert.domain.common.hash;
+
+/**
+ * long 키 선형 탐사 open addressing 테이블의 키 배열과 탐색/삽입/삭제.
+ * <p>
+ * 박싱/노드 객체 없이 long 키를 다루기 위한 공통 부분이다. 값은 하위 클래스가 같은 인덱스의 병렬 배열로 들고,
+ * 삭제를 tombstone 없이 backward-shift 로 처리하면서 슬롯이 옮겨지면 {@link #moveSlot}/{@link #clearSlot} 으로 알린다.
+ * 키 0 은 빈 슬롯 표시이므로 쓰지 않는다. 슬롯 수는 2의 거듭제곱이어야 하고, 동기화는 호출하는 쪽이 맡는다.
+ */
+public abstract class LongKeySlots {
+
+    protected long[] keys;
+    private int size;
+
+    protected LongKeySlots(int slots) {
+        this.keys = new long[slots];
+    }
+
+    public final int size() {
+        return size;
+    }
+
+    /** key 가 있는 슬롯, 없으면 -1 */
+    protected final int find(long key) {
+        int m = keys.length - 1;
+        for (int i = home(key); keys[i] != 0; i = (i + 1) & m) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** key 가 없을 때만 호출한다. 빈 슬롯에 key 를 넣고 그 슬롯을 돌려준다 */
+    protected final int insert(long key) {
+        int m = keys.length - 1;
+        int i = home(key);
+        while (keys[i] != 0) {
+            i = (i + 1) & m;
+        }
+        keys[i] = key;
+        size++;
+        return i;
+    }
+
+    protected final void deleteSlot(int slot) {
+        int m = keys.length - 1;
+        int hole = slot;
+        for (int i = (hole + 1) & m; keys[i] != 0; i = (i + 1) & m) {
+            int home = home(keys[i]);
+            // home 이 (hole, i] 구간 밖이면 hole 로 옮겨도 탐색 경로가 유지된다
+            boolean movable = hole <= i ? (home <= hole || home > i) : (home <= hole && home > i);
+            if (movable) {
+                keys[hole] = keys[i];
+                moveSlot(i, hole);
+                hole = i;
+            }
+        }
+        keys[hole] = 0;
+        clearSlot(hole);
+        size--;
+    }
+
+    /** 조건에 맞는 슬롯을 모두 지우고 지운 개수를 돌려준다 */
+    protected final int removeIf(SlotPredicate predicate) {
+        int removed = 0;
+        int i = 0;
+        while (i < keys.length) {
+            // backward-shift 로 다른 키가 현재 슬롯으로 당겨질 수 있으므로 지웠으면 같은 슬롯을 다시 본다
+            if (keys[i] != 0 && predicate.test(i)) {
+                deleteSlot(i);
+                removed++;
+            } else {
+                i++;
+            }
+        }
+        return removed;
+    }
+
+    /** 키 배열을 slots 크기로 비우고 이전 키 배열을 돌려준다. 하위 클래스는 값 배열을 새로 만든 뒤 다시 넣는다 */
+    protected final long[] reset(int slots) {
+        long[] old = keys;
+        keys = new long[slots];
+        size = 0;
+        return old;
+    }
+
+    /** from 슬롯의 값을 to 슬롯으로 옮긴다 (키는 이미 옮겨져 있다) */
+    protected abstract void moveSlot(int from, int to);
+
+    /** 비워진 슬롯의 값을 지운다 */
+    protected abstract void clearSlot(int slot);
+
+    @FunctionalInterface
+    protected interface SlotPredicate {
+        boolean test(int slot);
+    }
+
+    private int home(long key) {
+        return (int) LongHash.mix(key) & (keys.length - 1);
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.expert.domain.common.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 큐에 넣기 전의 레코드를 남기는 append-only 저널 (write-behind 적재용).
+ * <p>
+ * 레코드마다 seq 를 부여해 한 줄(JSON)씩 덧붙이고, 소비자가 DB 에 반영한 연속 구간의 끝 seq 를 "#commit=" 줄로 남긴다.
+ * 기동 시 마지막 commit 이후의 레코드를 돌려주어 프로세스가 죽어도 잃지 않게 하고, 모두 반영되면 파일을 비운다.
+ */
+@Slf4j
+public final class AppendOnlyJournal<T extends JournalEntry<T>> implements AutoCloseable {
+
+    private static final String COMMIT_PREFIX = "#commit=";
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final Path path;
+    private final Class<T> type;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    private final FileChannel channel;
+
+    private long lastSeq;       // 마지막으로 부여한 seq
+    private long committedSeq;  // 이 seq 까지는 모두 DB 에 반영됨
+    private boolean tornTail;   // 마지막 줄이 개행 없이 끊겨 있음 (쓰다 죽었거나 기록 중 실패)
+
+    public AppendOnlyJournal(Path path, Class<T> type, ObjectMapper objectMapper, boolean fsync) {
+        this.path = path;
+        this.type = type;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    /** 아직 DB 에 반영되지 않은 레코드를 seq 순으로 돌려준다 */
+    public synchronized List<T> recover() {
+        List<T> entries = new ArrayList<>();
+        long committed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (line.startsWith(COMMIT_PREFIX)) {
+                    committed = Math.max(committed, Long.parseLong(line.substring(COMMIT_PREFIX.length())));
+                    continue;
+                }
+                try {
+                    entries.add(objectMapper.readValue(line, type));
+                } catch (IOException e) {
+                    // 마지막 줄이 쓰다 만 상태로 끊긴 경우
+                    log.warn("손상된 저널 줄을 건너뜁니다: {}", path);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long watermark = committed;
+        List<T> pending = entries.stream().filter(e -> e.seq() > watermark).toList();
+        lastSeq = entries.stream().mapToLong(JournalEntry::seq).max().orElse(committed);
+        committedSeq = committed;
+        try {
+            if (pending.isEmpty()) {
+                // 반영할 레코드가 없으면 쓰다 만 줄까지 함께 비운다
+                channel.truncate(0);
+                tornTail = false;
+            } else {
+                tornTail = endsWithTornLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return pending;
+    }
+
+    /** seq 를 부여해 기록하고, seq 가 채워진 레코드를 돌려준다 */
+    public synchronized T append(T entry) throws IOException {
+        T sequenced = entry.withSeq(lastSeq + 1);
+        byte[] json = objectMapper.writeValueAsBytes(sequenced);
+        // 끊긴 마지막 줄 뒤에 바로 붙으면 이번 레코드까지 읽을 수 없으므로 줄을 바꿔 쓴다
+        ByteBuffer[] line = tornTail
+                ? new ByteBuffer[]{ByteBuffer.wrap(NEWLINE), ByteBuffer.wrap(json), ByteBuffer.wrap(NEWLINE)}
+                : new ByteBuffer[]{ByteBuffer.wrap(json), ByteBuffer.wrap(NEWLINE)};
+        tornTail = true;
+        channel.write(line);
+        if (fsync) {
+            channel.force(false);
+        }
+        tornTail = false;
+        lastSeq++; // 기록에 성공한 경우에만 seq 를 소비해 commit 구간에 빈틈이 생기지 않게 한다
+        return sequenced;
+    }
+
+    /** seq 까지 모두 DB 에 반영되었음을 기록한다. 남은 레코드가 없으면 파일을 비운다. */
+    public synchronized void commit(long seq) throws IOException {
+        if (seq <= committedSeq) {
+            return;
+        }
+        committedSeq = seq;
+        if (committedSeq == lastSeq) {
+            channel.truncate(0);
+            tornTail = false;
+        } else {
+            String line = (tornTail ? "\n" : "") + COMMIT_PREFIX + seq + "\n";
+            tornTail = true;
+            channel.write(ByteBuffer.wrap(line.getBytes(StandardCharsets.US_ASCII)));
+            tornTail = false;
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    public synchronized long lastSeq() {
+        return lastSeq;
+    }
+
+    private boolean endsWithTornLine() throws IOException {
+        try (FileChannel reader = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = reader.size();
+            if (size == 0) {
+                return false;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            reader.read(last, size - 1);
+            return last.get(0) != '\n';
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.expert.domain.common.journal;
+
+/**
+ * {@link AppendOnlyJournal} 에 한 줄(JSON)로 기록되는 레코드. seq 는 저널이 기록할 때 부여한다.
+ */
+public interface JournalEntry<T extends JournalEntry<T>> {
+
+    long seq();
+
+    T withSeq(long seq);
+}
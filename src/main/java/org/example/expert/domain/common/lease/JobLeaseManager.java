@@ -0,0 +1,70 @@
+package org.example.expert.domain.common.lease;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * job_leases 행으로 배치 작업의 노드 간 단독 실행을 보장한다.
+ * <p>
+ * 만료되었거나 내가 잡고 있는 행만 UPDATE 로 가져오고, 행이 없으면 INSERT 한다 (PK 충돌이면 다른 노드가 먼저 잡은 것).
+ * 작업은 단계마다 renew 로 만료를 늘리고, renew 가 실패하면(다른 노드가 가져감) 바로 멈춰야 한다.
+ * 만료 판정은 각 노드의 시계를 쓰므로 ttl 은 노드 간 시계 차이와 작업 한 단계 시간보다 충분히 길게 둔다.
+ */
+@Slf4j
+@Component
+public class JobLeaseManager {
+
+    private static final String TAKE_SQL =
+            "UPDATE job_leases SET owner = ?, expires_at = ? WHERE name = ? AND (owner = ? OR expires_at < ?)";
+    private static final String RENEW_SQL =
+            "UPDATE job_leases SET expires_at = ? WHERE name = ? AND owner = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO job_leases (name, owner, expires_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+
+    public JobLeaseManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        // pid@host 에 난수를 붙여 같은 호스트의 재기동/여러 인스턴스도 구분한다
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /** 비어 있거나 만료되었거나 이미 내 것이면 ttl 만큼 잡고 true */
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp expiresAt = Timestamp.valueOf(now.plus(ttl));
+        if (jdbcTemplate.update(TAKE_SQL, owner, expiresAt, name, owner, Timestamp.valueOf(now)) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, owner, expiresAt) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /** 아직 내 것이면 만료를 ttl 뒤로 늘리고 true. false 면 다른 노드가 가져갔다. */
+    public boolean renew(String name, Duration ttl) {
+        Timestamp expiresAt = Timestamp.valueOf(LocalDateTime.now().plus(ttl));
+        return jdbcTemplate.update(RENEW_SQL, expiresAt, name, owner) == 1;
+    }
+
+    /** 내 것이면 바로 만료시켜 다른 노드가 기다리지 않게 한다 */
+    public void release(String name) {
+        try {
+            jdbcTemplate.update(RENEW_SQL, Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), name, owner);
+        } catch (RuntimeException e) {
+            // 못 풀어도 ttl 이 지나면 다른 노드가 가져간다
+            log.warn("job lease 해제 실패: name={}, {}", name, e.getMessage());
+        }
+    }
+}
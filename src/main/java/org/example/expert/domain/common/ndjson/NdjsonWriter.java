@@ -0,0 +1,39 @@
+package org.example.expert.domain.common.ndjson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * NDJSON 한 줄 = JSON 값 하나. 마지막 값까지 모든 줄을 '\n' 으로 끝낸다.
+ * <p>
+ * SequenceWriter 의 root value separator 는 값 "사이"에만 들어가 마지막 줄이 열린 채로 끝나므로 쓰지 않는다.
+ * 값마다 flush 하지도 않는다. 버퍼링과 flush 시점은 넘겨받은 Writer 에 맡긴다.
+ * close 하면 넘겨받은 Writer 도 닫힌다.
+ */
+public final class NdjsonWriter implements Closeable {
+
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+
+    public NdjsonWriter(ObjectMapper objectMapper, Writer writer) throws IOException {
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.createGenerator(writer);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    public void write(Object value) throws IOException {
+        objectWriter.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.expert.domain.common.paging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.enums.CountMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * CountMode 에 따라 Slice(size+1 조회 결과)에 전체 건수를 붙여 Page 로 만들거나 그대로 돌려준다.
+ * 실제로 어떤 전략이 응답했는지 paging.count{strategy=...} 카운터로 남긴다.
+ */
+@Slf4j
+@Component
+public class PageCounter {
+
+    private static final String ESTIMATE_SQL =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+    public PageCounter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${paging.count.cache-ttl:30s}") Duration ttl,
+            @Value("${paging.count.cache-max-entries:10000}") int maxEntries
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    // EXACT: 호출 측에서 이미 count 쿼리까지 실행한 Page
+    public <T> Page<T> exact(Page<T> page) {
+        recordServed(CountMode.EXACT);
+        return page;
+    }
+
+    /**
+     * @param slice       size+1 조회로 hasNext 가 계산된 결과
+     * @param table       ESTIMATE 에 사용할 테이블명
+     * @param filtered    검색 조건이 있으면 테이블 통계로 추정할 수 없으므로 CACHED 로 대체
+     * @param cacheKey    정규화된 검색 조건 키
+     * @param exactCount  캐시 미스 시 실행할 COUNT 쿼리
+     */
+    public <T> Slice<T> complete(CountMode mode, Slice<T> slice, String table, boolean filtered,
+                                 String cacheKey, LongSupplier exactCount) {
+        switch (mode) {
+            case NONE -> {
+                recordServed(CountMode.NONE);
+                return slice;
+            }
+            case ESTIMATE -> {
+                Long estimate = filtered ? null : estimateRows(table);
+                if (estimate != null) {
+                    recordServed(CountMode.ESTIMATE);
+                    return new PageImpl<>(slice.getContent(), slice.getPageable(), estimate);
+                }
+                return cached(slice, cacheKey, exactCount);
+            }
+            case CACHED -> {
+                return cached(slice, cacheKey, exactCount);
+            }
+            default -> {
+                recordServed(CountMode.EXACT);
+                return new PageImpl<>(slice.getContent(), slice.getPageable(), exactCount.getAsLong());
+            }
+        }
+    }
+
+    private <T> Page<T> cached(Slice<T> slice, String cacheKey, LongSupplier exactCount) {
+        long now = System.currentTimeMillis();
+        CachedCount hit = cache.get(cacheKey);
+        long total;
+        if (hit != null && hit.expiresAt() > now) {
+            total = hit.total();
+        } else {
+            total = exactCount.getAsLong();
+            if (cache.size() >= maxEntries) {
+                cache.values().removeIf(c -> c.expiresAt() <= now);
+                if (cache.size() >= maxEntries) {
+                    cache.clear();
+                }
+            }
+            cache.put(cacheKey, new CachedCount(total, now + ttlMillis));
+        }
+        recordServed(CountMode.CACHED);
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    private Long estimateRows(String table) {
+        try {
+            return jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class, table);
+        } catch (DataAccessException e) {
+            // information_schema.TABLES.TABLE_ROWS 가 없는 DB(H2 등)는 CACHED 로 대체
+            log.debug("table statistics unavailable for {}: {}", table, e.getMessage());
+            return null;
+        }
+    }
+
+    private void recordServed(CountMode served) {
+        meterRegistry.counter("paging.count", "strategy", served.name().toLowerCase()).increment();
+    }
+
+    private record CachedCount(long total, long expiresAt) {
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.expert.domain.common.paging;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.function.LongSupplier;
+
+/**
+ * size+1 조회로 만든 Slice 와, 같은 조건으로 전체 건수를 세는 count 쿼리.
+ * count 는 PageCounter 가 필요하다고 판단할 때만 실행한다.
+ */
+public record SliceWithCount<T>(Slice<T> slice, LongSupplier count) {
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.log.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.log.dto.request.LogSearchRequest;
+import org.example.expert.domain.log.dto.response.LogArchiveRow;
+import org.example.expert.domain.log.dto.response.LogPayloadResponse;
+import org.example.expert.domain.log.dto.response.LogResponse;
+import org.example.expert.domain.log.enums.LogAction;
+import org.example.expert.domain.log.enums.LogStatus;
+import org.example.expert.domain.log.service.LogAdminService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class LogAdminController {
+
+    private final LogAdminService logAdminService;
+
+    @GetMapping("/admin/logs")
+    public ResponseEntity<CursorResponse<LogResponse>> getLogs(
+            @RequestParam(required = false) LogAction action,
+            @RequestParam(required = false) LogStatus status,
+            @RequestParam(required = false) Long requesterId,
+            @RequestParam(required = false) Long targetId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        LogSearchRequest req = new LogSearchRequest(action, status, requesterId, targetId, from, to);
+        return ResponseEntity.ok(logAdminService.getLogs(req, cursor, size));
+    }
+
+    @GetMapping("/admin/logs/{logId}/payload")
+    public ResponseEntity<LogPayloadResponse> getPayload(@PathVariable long logId) {
+        return ResponseEntity.ok(logAdminService.getPayload(logId));
+    }
+
+    @GetMapping("/admin/logs/archive")
+    public ResponseEntity<List<LogArchiveRow>> searchArchive(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) LogAction action,
+            @RequestParam(required = false) LogStatus status,
+            @RequestParam(required = false) Long requesterId,
+            @RequestParam(required = false) Long targetId,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        LogSearchRequest req = new LogSearchRequest(action, status, requesterId, targetId, from, to);
+        return ResponseEntity.ok(logAdminService.searchArchive(req, limit));
+    }
+}
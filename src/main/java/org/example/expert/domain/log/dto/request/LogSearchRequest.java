@@ -0,0 +1,26 @@
+package org.example.expert.domain.log.dto.request;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.log.enums.LogAction;
+import org.example.expert.domain.log.enums.LogStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 조회 조건. 모두 선택이며 지정한 조건은 AND 로 묶는다.
+ * from 은 포함, to 는 제외.
+ */
+public record LogSearchRequest(
+        LogAction action,
+        LogStatus status,
+        Long requesterId,
+        Long targetId,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+    public LogSearchRequest {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidRequestException("from 은 to 보다 앞서야 합니다.");
+        }
+    }
+}
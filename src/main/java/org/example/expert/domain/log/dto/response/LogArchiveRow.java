@@ -0,0 +1,21 @@
+package org.example.expert.domain.log.dto.response;
+
+import org.example.expert.domain.log.enums.LogAction;
+import org.example.expert.domain.log.enums.LogStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 파일(NDJSON)에 저장되는 logs 한 행. 조회 응답으로도 그대로 쓴다.
+ */
+public record LogArchiveRow(
+        Long id,
+        LogAction action,
+        LogStatus status,
+        Long requesterId,
+        Long targetId,
+        String message,
+        String payload,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.log.dto.response;
+
+public record LogPayloadResponse(
+        Long id,
+        String payload
+) {
+}
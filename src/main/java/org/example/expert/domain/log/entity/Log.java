@@ -13,9 +13,13 @@ import org.hibernate.annotations.CreationTimestamp;
 @Table(
         name = "logs",
         indexes = {
-                @Index(name = "ix_log_created_at", columnList = "created_at"),
-                @Index(name = "ix_log_action",     columnList = "action"),
-                @Index(name = "ix_log_status",     columnList = "status")
+                // 보관 작업(created_at 범위)과 필터 없는 최신순 조회
+                @Index(name = "ix_log_created_at",           columnList = "created_at"),
+                // 관리자 조회: 동등 조건 하나 + (created_at, id) 키셋. InnoDB 보조 인덱스 끝에는 PK(id)가 붙는다
+                @Index(name = "ix_log_action_created_at",    columnList = "action, created_at"),
+                @Index(name = "ix_log_status_created_at",    columnList = "status, created_at"),
+                @Index(name = "ix_log_requester_created_at", columnList = "requester_id, created_at"),
+                @Index(name = "ix_log_target_created_at",    columnList = "target_id, created_at")
         }
 )
 @Getter
@@ -48,28 +52,24 @@ public class Log {
     @Column(length = 500)
     private String message;
 
-    // 상세 페이로드(요청/응답/컨텍스트)
-    @Lob
-    @Basic(fetch = FetchType.LAZY)
-    private String payload;
+    // 상세 페이로드(요청/응답/컨텍스트)는 log_payloads 테이블(LogPayload)에 따로 저장
 
     //생성 시각 – NOT NULL 보장
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    private Log(LogAction action, LogStatus status, Long requesterId, Long targetId, String message, String payload) {
+    private Log(LogAction action, LogStatus status, Long requesterId, Long targetId, String message) {
         this.action = action;
         this.status = status;
         this.requesterId = requesterId;
         this.targetId = targetId;
         this.message = message;
-        this.payload = payload;
     }
 
     public static Log of(LogAction action, LogStatus status,
                          Long requesterId, Long targetId,
-                         String message, String payload) {
-        return new Log(action, status, requesterId, targetId, message, payload);
+                         String message) {
+        return new Log(action, status, requesterId, targetId, message);
     }
 }
@@ -0,0 +1,29 @@
+package org.example.expert.domain.log.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * logs 행의 payload. logs 와 테이블을 나눠 목록/엔티티 조회 시 LOB 을 읽지 않는다.
+ * data 는 LogPayloadCodec 형식(헤더 1바이트 + Smile/텍스트, 필요 시 deflate).
+ */
+@Entity
+@Table(name = "log_payloads")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LogPayload {
+
+    @Id
+    @Column(name = "log_id")
+    private Long logId;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+}
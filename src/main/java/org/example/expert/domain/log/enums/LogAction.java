@@ -6,5 +6,8 @@ import lombok.AllArgsConstructor;
 public enum LogAction {
     MANAGER_REGISTER,
     MANAGER_ASSIGN, // 담당자 등록
-    MANAGER_DELETE // 담당자 삭제
+    MANAGER_BATCH_ASSIGN, // 담당자 일괄 등록 (targetId = todoId)
+    MANAGER_DELETE, // 담당자 삭제
+    USER_ROLE_CHANGE, // 관리자의 사용자 권한 변경
+    TODO_DELETE // todo 삭제 요청 (targetId = todoId)
 }
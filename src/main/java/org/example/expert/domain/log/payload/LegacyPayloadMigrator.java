@@ -0,0 +1,146 @@
+package org.example.expert.domain.log.payload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.lease.JobLeaseManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * payload 를 logs.payload(TEXT) 에 저장하던 때의 행을 log_payloads 로 옮긴다.
+ * <p>
+ * 기동 후 logs.payload 컬럼이 남아 있을 때만 별도 스레드에서 동작한다. 여러 노드가 함께 떠도 job_leases 의 lease 를
+ * 잡은 노드 하나만 옮기고, 배치마다 lease 를 갱신한다. id 순으로 batch-size 만큼 인코딩해 넣고
+ * 같은 트랜잭션에서 원본을 NULL 로 비우므로, 중간에 멈춰도 다음 기동 때 남은 행부터 이어간다.
+ * 모두 옮긴 뒤 컬럼 삭제(ALTER TABLE logs DROP COLUMN payload)는 수동으로 한다.
+ */
+@Slf4j
+@Component
+public class LegacyPayloadMigrator {
+
+    private static final String SELECT_SQL =
+            "SELECT id, payload FROM logs WHERE id > ? AND payload IS NOT NULL ORDER BY id LIMIT ?";
+    private static final String INSERT_SQL = "INSERT INTO log_payloads (log_id, data) VALUES (?, ?)";
+    private static final String CLEAR_SQL = "UPDATE logs SET payload = NULL WHERE id > ? AND id <= ? AND payload IS NOT NULL";
+
+    private static final String LEASE_NAME = "legacy-payload-migration";
+
+    private record LegacyRow(long id, String payload) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate txTemplate;
+    private final LogPayloadCodec payloadCodec;
+    private final JobLeaseManager jobLeaseManager;
+    private final int batchSize;
+    private final Duration leaseTtl;
+
+    public LegacyPayloadMigrator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            LogPayloadCodec payloadCodec,
+            JobLeaseManager jobLeaseManager,
+            @Value("${audit.log.payload.migrate-batch-size:500}") int batchSize,
+            @Value("${audit.log.payload.migrate-lease-ttl:5m}") Duration leaseTtl
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.payloadCodec = payloadCodec;
+        this.jobLeaseManager = jobLeaseManager;
+        this.batchSize = batchSize;
+        this.leaseTtl = leaseTtl;
+    }
+
+    // 옮길 행이 많아도 기동을 붙잡지 않도록 별도 스레드에서 돌린다
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(() -> {
+            try {
+                migrate();
+            } catch (RuntimeException e) {
+                // 다음 기동 때 남은 행부터 다시 시도한다
+                log.error("legacy log payload migration failed", e);
+            }
+        }, "legacy-payload-migrator");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void migrate() {
+        if (!hasLegacyColumn()) {
+            return;
+        }
+        if (!jobLeaseManager.tryAcquire(LEASE_NAME, leaseTtl)) {
+            log.info("legacy log payload migration skipped: another node holds the lease");
+            return;
+        }
+        try {
+            long migrated = migrateAll();
+            if (migrated > 0) {
+                log.info("legacy log payloads migrated: {}", migrated);
+            }
+        } finally {
+            jobLeaseManager.release(LEASE_NAME);
+        }
+    }
+
+    private long migrateAll() {
+        long afterId = 0L;
+        long migrated = 0L;
+        List<LegacyRow> rows;
+        while (renewLease() && !(rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new LegacyRow(rs.getLong("id"), rs.getString("payload")), afterId, batchSize)).isEmpty()) {
+            List<Object[]> encoded = new ArrayList<>(rows.size());
+            for (LegacyRow row : rows) {
+                encoded.add(new Object[]{row.id(), payloadCodec.encode(row.payload())});
+            }
+            long fromId = afterId;
+            long toId = rows.get(rows.size() - 1).id();
+            txTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, encoded);
+                jdbcTemplate.update(CLEAR_SQL, fromId, toId);
+            });
+
+            afterId = toId;
+            migrated += rows.size();
+        }
+        return migrated;
+    }
+
+    // 배치 사이에 lease 를 늘린다. 놓쳤으면(다른 노드가 가져감) 같은 행을 두 노드가 옮기지 않도록 멈춘다
+    private boolean renewLease() {
+        if (jobLeaseManager.renew(LEASE_NAME, leaseTtl)) {
+            return true;
+        }
+        log.warn("legacy log payload migration stopped: lease lost");
+        return false;
+    }
+
+    private boolean hasLegacyColumn() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+            DatabaseMetaData meta = con.getMetaData();
+            // 식별자 대소문자 규칙이 DB 마다 달라 두 가지 모두 확인
+            for (String table : new String[]{"logs", "LOGS"}) {
+                for (String column : new String[]{"payload", "PAYLOAD"}) {
+                    try (ResultSet rs = meta.getColumns(con.getCatalog(), null, table, column)) {
+                        if (rs.next()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.expert.domain.log.payload;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 감사 로그 payload 인코딩.
+ * <p>
+ * 첫 바이트가 형식 헤더이고 나머지가 본문이다. JSON 이고 Smile(이진 JSON, 키 back-reference)이 더 작으면 Smile 로,
+ * 아니면 UTF-8 그대로 저장한다. 본문이 compress-threshold 이상이면 deflate 하고 헤더에 표시한다.
+ * JSON 은 같은 값으로 복원되지만 공백 등 원문 형식은 보존하지 않는다.
+ * 인코딩은 writer 스레드에서 하므로 요청 경로에는 비용이 없다.
+ */
+@Component
+public class LogPayloadCodec {
+
+    private static final byte FORMAT_TEXT = 0;
+    private static final byte FORMAT_SMILE = 1;
+    private static final byte DEFLATED = (byte) 0x80;
+    private static final byte FORMAT_MASK = 0x7F;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectReader strictJsonReader;
+    private final ObjectMapper smileMapper;
+    private final int compressThreshold;
+
+    private final DistributionSummary rawBytes;
+    private final DistributionSummary encodedBytes;
+
+    public LogPayloadCodec(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${audit.log.payload.compress-threshold:512}") int compressThreshold
+    ) {
+        this.jsonMapper = objectMapper;
+        // "1 건 실패" 같은 텍스트가 숫자 JSON 으로 잘려 읽히지 않도록 뒤에 남는 토큰이 있으면 텍스트로 취급
+        this.strictJsonReader = objectMapper.reader().with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        // 형식은 앞의 헤더 바이트로 구분하므로 행마다 붙는 Smile 헤더(4바이트)는 쓰지 않는다
+        this.smileMapper = new ObjectMapper(SmileFactory.builder()
+                .disable(SmileGenerator.Feature.WRITE_HEADER)
+                .disable(SmileParser.Feature.REQUIRE_HEADER)
+                // 헤더가 없으면 공유 문자열 값(back-reference)은 쓸 수 없다 (생성기가 거부). 키 공유는 기본값으로 동작
+                .build());
+        this.compressThreshold = compressThreshold;
+
+        // 행당 바이트 수: 원본(JSON UTF-8) 대비 저장 크기
+        this.rawBytes = DistributionSummary.builder("audit.log.payload.bytes").tag("form", "raw")
+                .baseUnit("bytes").register(meterRegistry);
+        this.encodedBytes = DistributionSummary.builder("audit.log.payload.bytes").tag("form", "encoded")
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    public byte[] encode(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        byte[] text = payload.getBytes(StandardCharsets.UTF_8);
+        byte[] smile = toSmile(payload);
+        // 실수(8바이트 double) 위주의 짧은 JSON 등은 Smile 이 오히려 커지므로 작아질 때만 쓴다
+        boolean useSmile = smile != null && smile.length < text.length;
+        byte format = useSmile ? FORMAT_SMILE : FORMAT_TEXT;
+        byte[] body = useSmile ? smile : text;
+
+        if (body.length >= compressThreshold) {
+            byte[] deflated = deflate(body);
+            if (deflated.length < body.length) {
+                body = deflated;
+                format |= DEFLATED;
+            }
+        }
+
+        byte[] encoded = new byte[body.length + 1];
+        encoded[0] = format;
+        System.arraycopy(body, 0, encoded, 1, body.length);
+
+        rawBytes.record(text.length);
+        encodedBytes.record(encoded.length);
+        return encoded;
+    }
+
+    /** 저장된 바이트를 원래의 JSON(또는 텍스트) 문자열로 되돌린다 */
+    public String decode(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return null;
+        }
+        byte[] body = Arrays.copyOfRange(encoded, 1, encoded.length);
+        if ((encoded[0] & DEFLATED) != 0) {
+            body = inflate(body);
+        }
+        try {
+            return switch (encoded[0] & FORMAT_MASK) {
+                case FORMAT_SMILE -> jsonMapper.writeValueAsString(smileMapper.readTree(body));
+                case FORMAT_TEXT -> new String(body, StandardCharsets.UTF_8);
+                default -> throw new IllegalStateException("알 수 없는 payload 형식: " + encoded[0]);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // JSON 이 아니면 null
+    private byte[] toSmile(String payload) {
+        try {
+            JsonNode tree = strictJsonReader.readTree(payload);
+            return tree == null || tree.isMissingNode() ? null : smileMapper.writeValueAsBytes(tree);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("손상된 payload 입니다.");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 payload 입니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
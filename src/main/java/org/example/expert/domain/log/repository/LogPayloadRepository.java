@@ -0,0 +1,7 @@
+package org.example.expert.domain.log.repository;
+
+import org.example.expert.domain.log.entity.LogPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LogPayloadRepository extends JpaRepository<LogPayload, Long> {
+}
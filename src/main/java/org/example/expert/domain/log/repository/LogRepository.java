@@ -3,5 +3,5 @@ package org.example.expert.domain.log.repository;
 import org.example.expert.domain.log.entity.Log;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface LogRepository extends JpaRepository<Log, Long> {
+public interface LogRepository extends JpaRepository<Log, Long>, LogRepositoryCustom {
 }
@@ -0,0 +1,13 @@
+package org.example.expert.domain.log.repository;
+
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.log.dto.request.LogSearchRequest;
+import org.example.expert.domain.log.dto.response.LogResponse;
+
+import java.util.List;
+
+public interface LogRepositoryCustom {
+
+    // 키셋 페이징: cursor 이후 (createdAt, id) 내림차순으로 limit 건 (payload 제외)
+    List<LogResponse> searchAfter(LogSearchRequest req, Cursor cursor, int limit);
+}
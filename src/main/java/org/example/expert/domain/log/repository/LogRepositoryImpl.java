@@ -0,0 +1,58 @@
+package org.example.expert.domain.log.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.log.dto.request.LogSearchRequest;
+import org.example.expert.domain.log.dto.response.LogResponse;
+import org.example.expert.domain.log.entity.QLog;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class LogRepositoryImpl implements LogRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    private static final QLog LOG = QLog.log;
+
+    @Override
+    public List<LogResponse> searchAfter(LogSearchRequest req, Cursor cursor, int limit) {
+        BooleanBuilder where = new BooleanBuilder();
+        // 동등 조건 하나 + created_at 범위가 (컬럼, created_at) 복합 인덱스 하나로 풀리도록 조건을 만든다
+        if (req.action() != null) where.and(LOG.action.eq(req.action()));
+        if (req.status() != null) where.and(LOG.status.eq(req.status()));
+        if (req.requesterId() != null) where.and(LOG.requesterId.eq(req.requesterId()));
+        if (req.targetId() != null) where.and(LOG.targetId.eq(req.targetId()));
+        if (req.from() != null) where.and(LOG.createdAt.goe(req.from()));
+        if (req.to() != null) where.and(LOG.createdAt.lt(req.to()));
+
+        if (cursor != null) {
+            // (createdAt, id) < (cursor.at, cursor.id).
+            // OR 로만 풀면 옵티마이저가 범위 조건으로 인식하지 못할 수 있어 createdAt <= cursor.at 을 먼저 AND 로 건다
+            where.and(LOG.createdAt.loe(cursor.at()))
+                    .and(LOG.createdAt.lt(cursor.at()).or(LOG.id.lt(cursor.id())));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(
+                        LogResponse.class,
+                        LOG.id,
+                        LOG.action,
+                        LOG.status,
+                        LOG.requesterId,
+                        LOG.targetId,
+                        LOG.message,
+                        LOG.createdAt
+                ))
+                .from(LOG)
+                .where(where)
+                .orderBy(LOG.createdAt.desc(), LOG.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.log.retention;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 파일 하나에 대한 manifest 항목. id 범위와 생성 시각 범위로 조회 대상 파일을 고른다.
+ * deleted 가 false 이면 파일은 만들었지만 원본 행 삭제가 끝나지 않은 상태다 (재시작 시 이어서 삭제).
+ */
+public record ArchiveChunk(
+        String file,
+        long firstId,
+        long lastId,
+        LocalDateTime fromCreatedAt,
+        LocalDateTime toCreatedAt,
+        int rows,
+        LocalDateTime cutoff,
+        boolean deleted
+) {
+
+    ArchiveChunk markDeleted() {
+        return new ArchiveChunk(file, firstId, lastId, fromCreatedAt, toCreatedAt, rows, cutoff, true);
+    }
+
+    // from 은 포함, to 는 제외 (LogSearchRequest 와 같다)
+    boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return (to == null || fromCreatedAt.isBefore(to)) && (from == null || !toCreatedAt.isBefore(from));
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.expert.domain.log.retention;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보관 파일 목록(manifest.ndjson).
+ * <p>
+ * 상태가 바뀔 때마다 항목 한 줄을 덧붙이기만 하고, 읽을 때는 파일 이름별로 마지막 줄이 이긴다.
+ * 파일을 다시 쓰지 않으므로 중간에 죽어도 manifest 가 깨지지 않는다 (쓰다 만 마지막 줄은 건너뜀).
+ * 공유 저장소에서 다른 노드가 덧붙인 줄도 보이도록, 조회할 때마다 마지막으로 읽은 위치 뒤만 이어 읽는다.
+ */
+@Slf4j
+final class LogArchiveManifest {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final Map<String, ArchiveChunk> chunks = new LinkedHashMap<>();
+    private long readOffset; // 여기까지의 완성된 줄은 chunks 에 반영됨
+
+    LogArchiveManifest(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        refresh();
+    }
+
+    synchronized void append(ArchiveChunk chunk) {
+        try {
+            String line = objectMapper.writeValueAsString(chunk) + "\n";
+            if (endsWithTornLine()) {
+                // 직전에 쓰다 죽은 줄과 붙어 이번 항목까지 깨지지 않도록 줄을 바꾼다
+                line = "\n" + line;
+            }
+            Files.writeString(path, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 보관 manifest 를 기록할 수 없습니다: " + path, e);
+        }
+        chunks.put(chunk.file(), chunk);
+    }
+
+    /** firstId 순 */
+    synchronized List<ArchiveChunk> chunks() {
+        refresh();
+        List<ArchiveChunk> sorted = new ArrayList<>(chunks.values());
+        sorted.sort(Comparator.comparingLong(ArchiveChunk::firstId));
+        return sorted;
+    }
+
+    // 자기가 덧붙인 줄도 다시 읽지만 같은 순서로 덮어쓰므로 결과는 같다.
+    // 개행이 없는 마지막 줄은 (다른 노드가) 아직 쓰는 중일 수 있으므로 다음에 다시 읽는다
+    private void refresh() {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < readOffset) {
+                // 파일이 새로 만들어졌으면 처음부터
+                chunks.clear();
+                readOffset = 0;
+            }
+            if (channel.size() == readOffset) {
+                return;
+            }
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel.position(readOffset)), BUFFER_SIZE);
+            ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            long position = readOffset;
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                parse(line.toString(StandardCharsets.UTF_8));
+                line.reset();
+                readOffset = position;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean endsWithTornLine() throws IOException {
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return false;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, size - 1);
+            return last.get(0) != '\n';
+        }
+    }
+
+    private void parse(String line) {
+        if (line.isBlank()) {
+            return;
+        }
+        try {
+            ArchiveChunk chunk = objectMapper.readValue(line, ArchiveChunk.class);
+            chunks.put(chunk.file(), chunk);
+        } catch (IOException e) {
+            log.warn("손상된 manifest 줄을 건너뜁니다: {}", path);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.expert.domain.log.retention;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.example.expert.domain.common.ndjson.NdjsonWriter;
+import org.example.expert.domain.log.dto.response.LogArchiveRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 logs 행을 보관하는 gzip NDJSON 파일 저장소.
+ * <p>
+ * 청크 하나가 파일 하나(logs-&lt;firstId&gt;-&lt;lastId&gt;.ndjson.gz)이고, manifest 에 id/생성 시각 범위를 남겨
+ * 조회 시 기간이 겹치는 파일만 풀어 읽는다.
+ */
+@Component
+public class LogArchiveStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String MANIFEST_FILE = "manifest.ndjson";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader rowReader;
+    private final LogArchiveManifest manifest;
+
+    public LogArchiveStore(
+            ObjectMapper objectMapper,
+            @Value("${log.retention.archive-dir:data/log-archive}") String directory
+    ) {
+        this.directory = Path.of(directory);
+        this.objectMapper = objectMapper;
+        this.rowReader = objectMapper.readerFor(LogArchiveRow.class);
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 보관 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+        this.manifest = new LogArchiveManifest(this.directory.resolve(MANIFEST_FILE), objectMapper);
+    }
+
+    /** id 순으로 정렬된 행을 파일 하나로 쓰고 manifest 에 (삭제 전 상태로) 등록한다 */
+    ArchiveChunk write(List<LogArchiveRow> rows, LocalDateTime cutoff) {
+        LogArchiveRow first = rows.get(0);
+        LogArchiveRow last = rows.get(rows.size() - 1);
+        String fileName = "logs-" + first.id() + "-" + last.id() + ".ndjson.gz";
+        Path target = directory.resolve(fileName);
+        Path temp = directory.resolve(fileName + ".tmp");
+
+        LocalDateTime from = first.createdAt();
+        LocalDateTime to = first.createdAt();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE);
+             NdjsonWriter ndjson = new NdjsonWriter(objectMapper, writer)) {
+            for (LogArchiveRow row : rows) {
+                ndjson.write(row);
+                from = row.createdAt().isBefore(from) ? row.createdAt() : from;
+                to = row.createdAt().isAfter(to) ? row.createdAt() : to;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 보관 파일을 쓸 수 없습니다: " + temp, e);
+        }
+        try {
+            // 파일이 완성된 뒤에만 이름을 바꾸므로 중간에 죽으면 .tmp 만 남고 다음 실행에서 다시 만든다
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 보관 파일을 옮길 수 없습니다: " + target, e);
+        }
+
+        ArchiveChunk chunk = new ArchiveChunk(fileName, first.id(), last.id(), from, to, rows.size(), cutoff, false);
+        manifest.append(chunk);
+        return chunk;
+    }
+
+    void markDeleted(ArchiveChunk chunk) {
+        manifest.append(chunk.markDeleted());
+    }
+
+    /** 보관 파일은 썼지만 원본 삭제가 끝나지 않은 청크 (직전 실행이 중간에 멈춘 경우) */
+    List<ArchiveChunk> pendingDeletes() {
+        return manifest.chunks().stream().filter(chunk -> !chunk.deleted()).toList();
+    }
+
+    public List<ArchiveChunk> chunks() {
+        return manifest.chunks();
+    }
+
+    /** 기간(from 포함, to 제외)이 겹치는 보관 파일을 id 순으로 읽어 조건에 맞는 행을 최대 limit 건 돌려준다 */
+    public List<LogArchiveRow> search(LocalDateTime from, LocalDateTime to, Predicate<LogArchiveRow> filter, int limit) {
+        List<LogArchiveRow> result = new ArrayList<>();
+        for (ArchiveChunk chunk : manifest.chunks()) {
+            if (!chunk.overlaps(from, to)) {
+                continue;
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(directory.resolve(chunk.file())), BUFFER_SIZE),
+                    StandardCharsets.UTF_8), BUFFER_SIZE);
+                 MappingIterator<LogArchiveRow> rows = rowReader.readValues(reader)) {
+                while (rows.hasNext()) {
+                    LogArchiveRow row = rows.next();
+                    if ((from == null || !row.createdAt().isBefore(from))
+                            && (to == null || row.createdAt().isBefore(to))
+                            && filter.test(row)) {
+                        result.add(row);
+                        if (result.size() >= limit) {
+                            return result;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("로그 보관 파일을 읽을 수 없습니다: " + chunk.file(), e);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.expert.domain.log.retention;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.lease.JobLeaseManager;
+import org.example.expert.domain.log.dto.response.LogArchiveRow;
+import org.example.expert.domain.log.enums.LogAction;
+import org.example.expert.domain.log.enums.LogStatus;
+import org.example.expert.domain.log.payload.LogPayloadCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * max-age 보다 오래된 logs 행을 보관 파일로 옮기고 삭제한다.
+ * <p>
+ * id 순 keyset 으로 chunk-size 만큼 읽어 파일 하나로 쓰고, manifest 에 기록한 뒤에만 원본을 지운다.
+ * 삭제는 id 구간을 delete-batch-size 씩 잘라 문장마다 따로 커밋하므로 긴 락을 잡지 않는다.
+ * 청크/배치 사이에는 pause 만큼 쉬어 운영 트래픽에 주는 부하를 제한한다.
+ * 중간에 죽으면 다음 실행이 manifest 에서 삭제가 끝나지 않은 청크부터 마저 지우고 이어간다.
+ * 여러 노드에서 cron 이 함께 돌아도 job_leases 의 lease 를 잡은 노드 하나만 실행하고, 청크마다 lease 를 갱신한다.
+ * 어느 노드가 실행해도 이어갈 수 있도록 archive-dir(보관 파일 + manifest)은 모든 노드가 공유하는 저장소여야 한다.
+ */
+@Slf4j
+@Component
+public class LogRetentionJob {
+
+    private static final String MAX_ID_SQL = "SELECT MAX(id) FROM logs WHERE created_at < ?";
+    private static final String SELECT_SQL =
+            "SELECT l.id, l.action, l.status, l.requester_id, l.target_id, l.message, p.data, l.created_at FROM logs l"
+                    + " LEFT JOIN log_payloads p ON p.log_id = l.id"
+                    + " WHERE l.id > ? AND l.id <= ? AND l.created_at < ? ORDER BY l.id LIMIT ?";
+    private static final String DELETE_PAYLOAD_SQL =
+            "DELETE FROM log_payloads WHERE log_id IN"
+                    + " (SELECT id FROM logs WHERE id >= ? AND id < ? AND id <= ? AND created_at < ?)";
+    private static final String DELETE_SQL =
+            "DELETE FROM logs WHERE id >= ? AND id < ? AND id <= ? AND created_at < ?";
+    private static final String LEASE_NAME = "log-retention";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RowMapper<LogArchiveRow> rowMapper;
+    private final LogArchiveStore archiveStore;
+    private final JobLeaseManager jobLeaseManager;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final int deleteBatchSize;
+    private final long pauseNanos;
+    private final Duration leaseTtl;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter archivedCounter;
+    private final Counter deletedCounter;
+
+    public LogRetentionJob(
+            JdbcTemplate jdbcTemplate,
+            LogArchiveStore archiveStore,
+            JobLeaseManager jobLeaseManager,
+            LogPayloadCodec payloadCodec,
+            MeterRegistry meterRegistry,
+            @Value("${log.retention.enabled:true}") boolean enabled,
+            @Value("${log.retention.max-age:90d}") Duration maxAge,
+            @Value("${log.retention.chunk-size:10000}") int chunkSize,
+            @Value("${log.retention.delete-batch-size:500}") int deleteBatchSize,
+            @Value("${log.retention.pause:200ms}") Duration pause,
+            @Value("${log.retention.lease-ttl:10m}") Duration leaseTtl
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveStore = archiveStore;
+        this.jobLeaseManager = jobLeaseManager;
+        // 보관 파일은 외부 도구로도 읽을 수 있도록 payload 를 JSON 으로 되돌려 쓴다
+        this.rowMapper = (rs, rowNum) -> new LogArchiveRow(
+                rs.getLong("id"),
+                LogAction.valueOf(rs.getString("action")),
+                LogStatus.valueOf(rs.getString("status")),
+                rs.getObject("requester_id", Long.class),
+                rs.getObject("target_id", Long.class),
+                rs.getString("message"),
+                payloadCodec.decode(rs.getBytes("data")),
+                rs.getTimestamp("created_at").toLocalDateTime());
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        this.deleteBatchSize = deleteBatchSize;
+        this.pauseNanos = pause.toNanos();
+        this.leaseTtl = leaseTtl;
+
+        this.archivedCounter = meterRegistry.counter("log.retention.archived");
+        this.deletedCounter = meterRegistry.counter("log.retention.deleted");
+    }
+
+    @Scheduled(cron = "${log.retention.cron:0 0 3 * * *}")
+    public void run() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!jobLeaseManager.tryAcquire(LEASE_NAME, leaseTtl)) {
+                log.info("log retention skipped: another node holds the lease");
+                return;
+            }
+            try {
+                // 직전 실행이 보관 후 삭제 전에 멈췄다면 먼저 마저 지운다
+                for (ArchiveChunk chunk : archiveStore.pendingDeletes()) {
+                    if (!renewLease()) {
+                        return;
+                    }
+                    log.info("log retention resume: {}", chunk.file());
+                    deleteChunk(chunk);
+                }
+                archiveOlderThan(LocalDateTime.now().minus(maxAge));
+            } finally {
+                jobLeaseManager.release(LEASE_NAME);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void archiveOlderThan(LocalDateTime cutoff) {
+        // 보관 대상의 마지막 id 를 created_at 인덱스로 한 번 구해 두고 id 범위를 닫는다.
+        // 그러지 않으면 대상이 끝난 뒤의 마지막 SELECT 가 0건을 찾으려고 남은(최근) 행을 id 순으로 모두 훑는다
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class, Timestamp.valueOf(cutoff));
+        if (maxId == null) {
+            log.info("log retention finished: cutoff={}, nothing to archive", cutoff);
+            return;
+        }
+        // 보관한 행은 지워지므로 매번 처음부터 읽어도 앞쪽은 비어 있다
+        long afterId = 0L;
+        long chunks = 0L;
+        long rows = 0L;
+
+        List<LogArchiveRow> batch;
+        while (renewLease() && !(batch = jdbcTemplate.query(
+                SELECT_SQL, rowMapper, afterId, maxId, Timestamp.valueOf(cutoff), chunkSize)).isEmpty()) {
+            ArchiveChunk chunk = archiveStore.write(batch, cutoff);
+            archivedCounter.increment(batch.size());
+            deleteChunk(chunk);
+
+            afterId = chunk.lastId();
+            chunks++;
+            rows += batch.size();
+            pause();
+        }
+
+        log.info("log retention finished: cutoff={}, chunks={}, rows={}", cutoff, chunks, rows);
+    }
+
+    private void deleteChunk(ArchiveChunk chunk) {
+        Timestamp cutoff = Timestamp.valueOf(chunk.cutoff());
+        // IDENTITY id 는 거의 연속이므로 id 구간을 잘라 지우면 문장 하나가 대략 delete-batch-size 행만 잠근다
+        for (long from = chunk.firstId(); from <= chunk.lastId(); from += deleteBatchSize) {
+            jdbcTemplate.update(DELETE_PAYLOAD_SQL, from, from + deleteBatchSize, chunk.lastId(), cutoff);
+            int deleted = jdbcTemplate.update(DELETE_SQL, from, from + deleteBatchSize, chunk.lastId(), cutoff);
+            deletedCounter.increment(deleted);
+            if (deleted > 0) {
+                pause();
+            }
+        }
+        archiveStore.markDeleted(chunk);
+    }
+
+    // 청크 사이에 lease 를 늘린다. 놓쳤으면(다른 노드가 가져감) 같은 청크를 두 노드가 쓰지 않도록 멈춘다
+    private boolean renewLease() {
+        if (jobLeaseManager.renew(LEASE_NAME, leaseTtl)) {
+            return true;
+        }
+        log.warn("log retention stopped: lease lost");
+        return false;
+    }
+
+    private void pause() {
+        if (pauseNanos > 0) {
+            LockSupport.parkNanos(pauseNanos);
+        }
+    }
+}
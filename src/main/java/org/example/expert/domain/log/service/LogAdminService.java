@@ -0,0 +1,63 @@
+package org.example.expert.domain.log.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.log.dto.request.LogSearchRequest;
+import org.example.expert.domain.log.dto.response.LogArchiveRow;
+import org.example.expert.domain.log.dto.response.LogPayloadResponse;
+import org.example.expert.domain.log.dto.response.LogResponse;
+import org.example.expert.domain.log.entity.LogPayload;
+import org.example.expert.domain.log.payload.LogPayloadCodec;
+import org.example.expert.domain.log.repository.LogPayloadRepository;
+import org.example.expert.domain.log.repository.LogRepository;
+import org.example.expert.domain.log.retention.LogArchiveStore;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class LogAdminService {
+
+    private static final int MAX_ARCHIVE_LIMIT = 1000;
+
+    private final LogRepository logRepository;
+    private final LogPayloadRepository logPayloadRepository;
+    private final LogPayloadCodec logPayloadCodec;
+    private final LogArchiveStore logArchiveStore;
+
+    @Transactional(readOnly = true)
+    public CursorResponse<LogResponse> getLogs(LogSearchRequest req, String cursor, int size) {
+        CursorResponse.validateSize(size);
+
+        List<LogResponse> rows = logRepository.searchAfter(req, Cursor.decode(cursor), size + 1);
+        return CursorResponse.of(rows, size, row -> new Cursor(row.createdAt(), row.id()));
+    }
+
+    // 목록 조회에서 빠진 payload 만 log_payloads 에서 PK 로 읽어 JSON 으로 되돌린다
+    @Transactional(readOnly = true)
+    public LogPayloadResponse getPayload(long logId) {
+        LogPayload payload = logPayloadRepository.findById(logId).orElse(null);
+        if (payload == null && !logRepository.existsById(logId)) {
+            throw new InvalidRequestException("Log not found");
+        }
+        return new LogPayloadResponse(logId, payload != null ? logPayloadCodec.decode(payload.getData()) : null);
+    }
+
+    /** 보관된(테이블에서 삭제된) 로그 조회. 조건은 /admin/logs 와 같고, 기간이 겹치는 보관 파일만 읽는다 */
+    public List<LogArchiveRow> searchArchive(LogSearchRequest req, int limit) {
+        if (limit < 1 || limit > MAX_ARCHIVE_LIMIT) {
+            throw new InvalidRequestException("limit 는 1 이상 " + MAX_ARCHIVE_LIMIT + " 이하여야 합니다.");
+        }
+        return logArchiveStore.search(req.from(), req.to(), row ->
+                (req.action() == null || row.action() == req.action())
+                        && (req.status() == null || row.status() == req.status())
+                        && (req.requesterId() == null || Objects.equals(row.requesterId(), req.requesterId()))
+                        && (req.targetId() == null || Objects.equals(row.targetId(), req.targetId())),
+                limit);
+    }
+}
@@ -1,24 +1,24 @@
 package org.example.expert.domain.log.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.log.entity.Log;
 import org.example.expert.domain.log.enums.LogAction;
 import org.example.expert.domain.log.enums.LogStatus;
-import org.example.expert.domain.log.repository.LogRepository;
+import org.example.expert.domain.log.writer.AuditLogWriter;
+import org.example.expert.domain.log.writer.AuditRecord;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 
 @Service
 @RequiredArgsConstructor
 public class LogService{
-    private final LogRepository logRepository;
+    private final AuditLogWriter auditLogWriter;
 
     /**
-     * 비즈니스 트랜잭션과 독립적으로 커밋되어야 하므로 REQUIRES_NEW 적용
+     * 비즈니스 트랜잭션과 독립적으로 남아야 하므로 큐에 넣고 바로 반환한다.
+     * 저장은 AuditLogWriter 가 별도 스레드에서 배치로 처리한다 (호출 측 트랜잭션이 롤백돼도 로그는 남음).
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void write(
             LogAction action,
             LogStatus status,
@@ -27,7 +27,6 @@ public class LogService{
             String message,
             String payload
     ){
-        Log log = Log.of(action, status, requesterId, targetId, message, payload);
-        logRepository.save(log);
+        auditLogWriter.append(new AuditRecord(0L, action, status, requesterId, targetId, message, payload, LocalDateTime.now()));
     }
 }
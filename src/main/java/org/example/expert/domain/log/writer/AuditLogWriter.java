@@ -0,0 +1,286 @@
+package org.example.expert.domain.log.writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.journal.AppendOnlyJournal;
+import org.example.expert.domain.log.payload.LogPayloadCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 로그(logs 테이블) 비동기 배치 writer.
+ * <p>
+ * 호출 스레드는 WAL 에 한 줄 쓰고 링 버퍼에 넣은 뒤 바로 돌아간다. 별도 스레드 하나가 batch-size 만큼 모이거나
+ * flush-interval 이 지나면 JDBC 배치 INSERT 로 한 번에 쓴다. 비즈니스 트랜잭션과 커넥션을 나눠 쓰지 않으므로
+ * REQUIRES_NEW 처럼 요청 하나가 커넥션 두 개를 잡는 일이 없다.
+ * payload 는 writer 스레드에서 LogPayloadCodec 으로 인코딩해 log_payloads 에 따로 쓴다.
+ * 큐가 가득 차면 기다리지 않고 버린다(audit.log.dropped).
+ * mode=sync 이면 호출 스레드에서 바로 별도 트랜잭션으로 쓴다 (테스트용).
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO logs (action, status, requester_id, target_id, message, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PAYLOAD_SQL = "INSERT INTO log_payloads (log_id, data) VALUES (?, ?)";
+    private static final int MESSAGE_MAX_LENGTH = 500;
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate txTemplate;
+    private final LogPayloadCodec payloadCodec;
+    private final boolean async;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final RingBuffer<AuditRecord> queue;
+    private final AppendOnlyJournal<AuditRecord> wal;
+
+    // 큐에 못 넣은 레코드의 seq 도 끝난 것으로 넘겨 WAL 의 연속 구간 계산에서 건너뛴다
+    private final SeqWatermark watermark = new SeqWatermark();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public AuditLogWriter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            LogPayloadCodec payloadCodec,
+            MeterRegistry meterRegistry,
+            @Value("${audit.log.mode:async}") String mode,
+            @Value("${audit.log.queue-capacity:8192}") int queueCapacity,
+            @Value("${audit.log.batch-size:200}") int batchSize,
+            @Value("${audit.log.flush-interval:200ms}") Duration flushInterval,
+            @Value("${audit.log.wal.path:data/audit.wal}") String walPath,
+            @Value("${audit.log.wal.fsync:false}") boolean fsync
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.payloadCodec = payloadCodec;
+        this.async = !"sync".equalsIgnoreCase(mode);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.queue = new RingBuffer<>(queueCapacity);
+        this.wal = async ? new AppendOnlyJournal<>(Path.of(walPath), AuditRecord.class, objectMapper, fsync) : null;
+
+        this.flushTimer = meterRegistry.timer("audit.log.flush");
+        this.writtenCounter = meterRegistry.counter("audit.log.written");
+        this.droppedCounter = meterRegistry.counter("audit.log.dropped");
+        this.failedCounter = meterRegistry.counter("audit.log.failed");
+        Gauge.builder("audit.log.queue.depth", queue, RingBuffer::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!async) {
+            return;
+        }
+        // 직전 실행에서 DB 에 반영하지 못한 레코드를 먼저 다시 넣는다
+        // (마지막 commit 이후 순서가 뒤바뀌어 이미 저장된 레코드는 한 번 더 들어갈 수 있다: at-least-once)
+        List<AuditRecord> pending = wal.recover();
+        if (!pending.isEmpty()) {
+            log.info("감사 로그 WAL 복구: {}건", pending.size());
+            for (int from = 0; from < pending.size(); from += batchSize) {
+                writeBatch(pending.subList(from, Math.min(from + batchSize, pending.size())));
+            }
+        }
+        watermark.reset(wal.lastSeq());
+        try {
+            wal.commit(watermark.contiguous());
+        } catch (IOException e) {
+            log.warn("감사 로그 WAL commit 기록 실패: {}", e.getMessage());
+        }
+
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public void append(AuditRecord record) {
+        if (!async) {
+            writeBatch(List.of(record));
+            return;
+        }
+
+        AuditRecord sequenced;
+        try {
+            sequenced = wal.append(record);
+        } catch (IOException e) {
+            droppedCounter.increment();
+            log.warn("감사 로그 WAL 기록 실패로 버립니다: {}", e.getMessage());
+            return;
+        }
+        if (!queue.offer(sequenced)) {
+            watermark.dropped(sequenced.seq());
+            droppedCounter.increment();
+        }
+    }
+
+    @PreDestroy
+    void stop() throws IOException, InterruptedException {
+        if (!async) {
+            return;
+        }
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        wal.close();
+    }
+
+    private void runWriter() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.nanoTime();
+
+        while (running || queue.size() > 0) {
+            queue.drainTo(batch::add, batchSize - batch.size());
+
+            boolean full = batch.size() >= batchSize;
+            boolean due = System.nanoTime() - lastFlush >= flushIntervalNanos;
+            if (!batch.isEmpty() && (full || due || !running)) {
+                writeBatch(batch);
+                batch.clear();
+                lastFlush = System.nanoTime();
+            } else if (!full) {
+                LockSupport.parkNanos(Math.min(flushIntervalNanos, TimeUnit.MILLISECONDS.toNanos(50)));
+            }
+            advanceWatermark();
+        }
+    }
+
+    private void writeBatch(List<AuditRecord> batch) {
+        Timer.Sample sample = Timer.start();
+        // 재시도마다 다시 인코딩하지 않도록 트랜잭션 밖에서 한 번만
+        List<byte[]> payloads = batch.stream().map(r -> payloadCodec.encode(r.payload())).toList();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                txTemplate.executeWithoutResult(status -> insert(batch, payloads));
+                writtenCounter.increment(batch.size());
+                break;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_BATCH_ATTEMPTS) {
+                    // 배치 전체가 계속 실패하면 한 건씩 넣어 문제 레코드만 버린다
+                    log.error("감사 로그 배치 저장 실패 ({}건), 개별 저장으로 전환: {}", batch.size(), e.getMessage());
+                    writeOneByOne(batch, payloads);
+                    break;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(200L * attempt));
+            }
+        }
+        sample.stop(flushTimer);
+        if (async) {
+            batch.forEach(r -> watermark.done(r.seq()));
+        }
+    }
+
+    private void writeOneByOne(List<AuditRecord> batch, List<byte[]> payloads) {
+        for (int i = 0; i < batch.size(); i++) {
+            AuditRecord record = batch.get(i);
+            List<AuditRecord> single = List.of(record);
+            List<byte[]> singlePayload = Collections.singletonList(payloads.get(i));
+            try {
+                txTemplate.executeWithoutResult(status -> insert(single, singlePayload));
+                writtenCounter.increment();
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("감사 로그 저장 실패로 버립니다: action={}, targetId={}", record.action(), record.targetId(), e);
+            }
+        }
+    }
+
+    // logs 배치 INSERT 로 생성된 id 를 받아 payload 가 있는 행만 log_payloads 에 배치 INSERT
+    private void insert(List<AuditRecord> records, List<byte[]> payloads) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        AuditRecord r = records.get(i);
+                        ps.setString(1, r.action().name());
+                        ps.setString(2, r.status().name());
+                        setLong(ps, 3, r.requesterId());
+                        setLong(ps, 4, r.targetId());
+                        ps.setString(5, truncate(r.message()));
+                        ps.setTimestamp(6, Timestamp.valueOf(r.createdAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return records.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Object[]> payloadRows = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            byte[] payload = payloads.get(i);
+            if (payload != null) {
+                payloadRows.add(new Object[]{((Number) keys.get(i).values().iterator().next()).longValue(), payload});
+            }
+        }
+        if (!payloadRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PAYLOAD_SQL, payloadRows);
+        }
+    }
+
+    // 반영(또는 버림)이 끝난 seq 중 빈틈 없이 이어지는 끝까지 WAL 에 commit 표시
+    private void advanceWatermark() {
+        if (watermark.advance()) {
+            try {
+                wal.commit(watermark.contiguous());
+            } catch (IOException e) {
+                log.warn("감사 로그 WAL commit 기록 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MESSAGE_MAX_LENGTH ? message.substring(0, MESSAGE_MAX_LENGTH) : message;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.log.writer;
+
+import org.example.expert.domain.common.journal.JournalEntry;
+import org.example.expert.domain.log.enums.LogAction;
+import org.example.expert.domain.log.enums.LogStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 큐/WAL 에 담기는 감사 로그 한 건. seq 는 WAL 안에서의 순번이다.
+ */
+public record AuditRecord(
+        long seq,
+        LogAction action,
+        LogStatus status,
+        Long requesterId,
+        Long targetId,
+        String message,
+        String payload,
+        LocalDateTime createdAt
+) implements JournalEntry<AuditRecord> {
+
+    @Override
+    public AuditRecord withSeq(long seq) {
+        return new AuditRecord(seq, action, status, requesterId, targetId, message, payload, createdAt);
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.expert.domain.log.writer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (슬롯별 sequence 를 쓰는 bounded MPMC 큐).
+ * 가득 차면 offer 가 기다리지 않고 false 를 돌려주므로, 요청 스레드가 로그 때문에 막히지 않는다.
+ */
+final class RingBuffer<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    RingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1); // 2의 거듭제곱으로 올림
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(T item) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots.set(index, item);
+                    sequences.set(index, pos + 1); // 소비자에게 공개
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false; // 가득 참
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    T poll() {
+        long pos = head.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    T item = slots.getAndSet(index, null);
+                    sequences.set(index, pos + mask + 1); // 다음 바퀴의 생산자에게 반환
+                    return item;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null; // 비어 있음
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    /** 최대 max 개를 꺼내 consumer 에 넘기고 꺼낸 개수를 돌려준다 */
+    int drainTo(Consumer<T> consumer, int max) {
+        int drained = 0;
+        T item;
+        while (drained < max && (item = poll()) != null) {
+            consumer.accept(item);
+            drained++;
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.log.writer;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * WAL commit 위치 계산.
+ * <p>
+ * DB 반영(또는 큐에 못 넣어 버림)이 끝난 seq 를 순서와 무관하게 받아, 빈틈 없이 이어지는 끝 seq 까지만 올린다.
+ * done/advance 는 writer 스레드만 부르고, dropped 는 요청 스레드에서 불러도 된다 (다음 advance 때 합친다).
+ */
+final class SeqWatermark {
+
+    private final PriorityQueue<Long> doneOutOfOrder = new PriorityQueue<>();
+    private final ConcurrentLinkedQueue<Long> droppedSeqs = new ConcurrentLinkedQueue<>();
+    private long contiguous;
+
+    /** seq 까지는 모두 끝난 것으로 보고 다시 시작한다 (WAL 복구 직후) */
+    void reset(long seq) {
+        doneOutOfOrder.clear();
+        contiguous = seq;
+    }
+
+    void done(long seq) {
+        doneOutOfOrder.add(seq);
+    }
+
+    void dropped(long seq) {
+        droppedSeqs.add(seq);
+    }
+
+    /** 연속 구간의 끝이 늘었으면 true */
+    boolean advance() {
+        Long dropped;
+        while ((dropped = droppedSeqs.poll()) != null) {
+            doneOutOfOrder.add(dropped);
+        }
+        long before = contiguous;
+        while (!doneOutOfOrder.isEmpty() && doneOutOfOrder.peek() <= contiguous + 1) {
+            contiguous = Math.max(contiguous, doneOutOfOrder.poll());
+        }
+        return contiguous > before;
+    }
+
+    long contiguous() {
+        return contiguous;
+    }
+}
@@ -4,7 +4,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
@@ -29,6 +31,15 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.saveManager(authUser, todoId, managerSaveRequest));
     }
 
+    @PostMapping("/todos/{todoId}/managers/batch")
+    public ResponseEntity<ManagerBatchSaveResponse> saveManagers(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody ManagerBatchSaveRequest managerBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(managerService.saveManagers(authUser, todoId, managerBatchSaveRequest));
+    }
+
     @GetMapping("/todos/{todoId}/managers")
     public ResponseEntity<List<ManagerResponse>> getMembers(
             @AuthenticationPrincipal AuthUser authUser,
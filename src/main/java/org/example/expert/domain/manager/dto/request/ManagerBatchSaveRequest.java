@@ -0,0 +1,22 @@
+package org.example.expert.domain.manager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.IdSequences;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerBatchSaveRequest {
+
+    // 한 번의 id 할당 + 한 번의 JDBC 배치로 끝나도록 시퀀스 할당 크기까지만 받는다
+    @NotEmpty
+    @Size(max = IdSequences.ALLOCATION_SIZE)
+    private List<@NotNull Long> managerUserIds;
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.manager.dto.response;
+
+import java.util.List;
+
+public record ManagerBatchSaveResponse(
+        int assigned,
+        List<Item> results
+) {
+    public enum Outcome {
+        ASSIGNED,           // 새로 등록됨
+        ALREADY_ASSIGNED,   // 이미 담당자
+        USER_NOT_FOUND,     // 존재하지 않는 유저
+        SELF_ASSIGNMENT     // 일정 작성자 본인
+    }
+
+    // managerId 는 ASSIGNED 일 때만 채운다
+    public record Item(long userId, Outcome outcome, Long managerId) {
+    }
+}
@@ -3,16 +3,31 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.IdSequences;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(
+        name = "managers",
+        uniqueConstraints = {
+                // 같은 유저를 같은 일정에 두 번 배치하지 않음 (todo_id 조회 인덱스 겸용)
+                @UniqueConstraint(name = "ux_managers_todo_id_user_id", columnNames = {"todo_id", "user_id"})
+        }
+)
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.TABLE, generator = "manager_id_gen")
+    @TableGenerator(
+            name = "manager_id_gen",
+            table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.MANAGERS,
+            allocationSize = IdSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,156 @@
+package org.example.expert.domain.manager.ownership;
+
+import org.example.expert.domain.common.hash.LongHash;
+import org.example.expert.domain.common.hash.LongKeySlots;
+
+/**
+ * 크기가 정해진 long → long 캐시.
+ * <p>
+ * stripe 마다 {@link LongKeySlots} 를 써서 박싱/노드 객체가 없다. 키 0 과 값 0 은 "없음" 표시로 쓴다
+ * (id 는 1 부터). stripe 가 가득 차면 CLOCK(second chance) 로 최근에 조회되지 않은 엔트리부터 내보낸다.
+ */
+final class LongLongCache {
+
+    static final long MISSING = 0L;
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    LongLongCache(int maxEntries, int stripes) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes));
+        int perStripe = Math.max(1, maxEntries / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+        this.mask = stripeCount - 1;
+    }
+
+    long get(long key) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    /** 용량이 차서 다른 엔트리를 내보냈으면 true */
+    boolean put(long key, long value) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            return stripe.put(key, value);
+        }
+    }
+
+    void remove(long key) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    /** 값이 value 인 엔트리를 모두 지운다 (전체 순회, 삭제 같은 드문 경우에만) */
+    int removeValue(long value) {
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                removed += stripe.removeValue(value);
+            }
+        }
+        return removed;
+    }
+
+    long size() {
+        long total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.size();
+            }
+        }
+        return total;
+    }
+
+    private Stripe stripeOf(long key) {
+        return stripes[(int) (LongHash.mix(key) >>> 32) & mask];
+    }
+
+    private static final class Stripe extends LongKeySlots {
+
+        private final int capacity;
+        private final long[] values;
+        private final boolean[] referenced;
+        private int hand;
+
+        // 부하율 0.5 이하가 되도록 용량의 2배 이상 2의 거듭제곱 크기로 고정 (resize 없음)
+        Stripe(int capacity) {
+            super(Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1);
+            this.capacity = capacity;
+            this.values = new long[keys.length];
+            this.referenced = new boolean[keys.length];
+        }
+
+        long get(long key) {
+            int slot = find(key);
+            if (slot < 0) {
+                return MISSING;
+            }
+            referenced[slot] = true;
+            return values[slot];
+        }
+
+        boolean put(long key, long value) {
+            int slot = find(key);
+            if (slot >= 0) {
+                values[slot] = value;
+                referenced[slot] = true;
+                return false;
+            }
+            boolean evicted = false;
+            if (size() >= capacity) {
+                evict();
+                evicted = true;
+            }
+            int i = insert(key);
+            values[i] = value;
+            referenced[i] = false;
+            return evicted;
+        }
+
+        void remove(long key) {
+            int slot = find(key);
+            if (slot >= 0) {
+                deleteSlot(slot);
+            }
+        }
+
+        int removeValue(long value) {
+            return removeIf(slot -> values[slot] == value);
+        }
+
+        @Override
+        protected void moveSlot(int from, int to) {
+            values[to] = values[from];
+            referenced[to] = referenced[from];
+        }
+
+        @Override
+        protected void clearSlot(int slot) {
+            values[slot] = 0;
+            referenced[slot] = false;
+        }
+
+        // 시계 바늘을 돌며 참조 표시가 있으면 지우고 넘어가고, 없으면 그 엔트리를 내보낸다
+        private void evict() {
+            int m = keys.length - 1;
+            while (true) {
+                if (keys[hand] != 0) {
+                    if (!referenced[hand]) {
+                        deleteSlot(hand);
+                        return;
+                    }
+                    referenced[hand] = false;
+                }
+                hand = (hand + 1) & m;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.expert.domain.manager.ownership;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 담당자 권한 확인용 소유 관계 캐시: todoId → 작성자 userId, managerId → todoId.
+ * <p>
+ * 두 관계 모두 만들어진 뒤 바뀌지 않으므로 삭제될 때만 지운다. 캐시에 없으면 id 한 컬럼만 읽는 projection 으로 채운다.
+ * 새로 저장된 todo 는 커밋 이벤트로 미리 채워, 직후의 담당자 등록이 DB 를 다시 읽지 않는다.
+ * 없는 id 는 캐시하지 않는다. 다른 노드에서 지운 todo 는 이 노드에서 만료되지 않지만,
+ * 이후 INSERT/DELETE 가 FK 또는 0건 결과로 실패하므로 권한 우회로 이어지지 않는다.
+ */
+@Component
+public class OwnershipIndex {
+
+    public static final long MISSING = LongLongCache.MISSING;
+
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final LongLongCache todoOwners;
+    private final LongLongCache managerTodos;
+
+    private final Counter todoHitCounter;
+    private final Counter todoMissCounter;
+    private final Counter managerHitCounter;
+    private final Counter managerMissCounter;
+    private final Counter evictionCounter;
+
+    public OwnershipIndex(
+            TodoRepository todoRepository,
+            ManagerRepository managerRepository,
+            MeterRegistry meterRegistry,
+            @Value("${ownership.cache.max-entries:100000}") int maxEntries,
+            @Value("${ownership.cache.stripes:16}") int stripes
+    ) {
+        this.todoRepository = todoRepository;
+        this.managerRepository = managerRepository;
+        this.todoOwners = new LongLongCache(maxEntries, stripes);
+        this.managerTodos = new LongLongCache(maxEntries, stripes);
+
+        this.todoHitCounter = meterRegistry.counter("ownership.cache", "cache", "todo", "result", "hit");
+        this.todoMissCounter = meterRegistry.counter("ownership.cache", "cache", "todo", "result", "miss");
+        this.managerHitCounter = meterRegistry.counter("ownership.cache", "cache", "manager", "result", "hit");
+        this.managerMissCounter = meterRegistry.counter("ownership.cache", "cache", "manager", "result", "miss");
+        this.evictionCounter = meterRegistry.counter("ownership.cache.evictions");
+        Gauge.builder("ownership.cache.size", todoOwners, LongLongCache::size).tag("cache", "todo").register(meterRegistry);
+        Gauge.builder("ownership.cache.size", managerTodos, LongLongCache::size).tag("cache", "manager").register(meterRegistry);
+    }
+
+    /** todo 작성자 id. todo 가 없으면 MISSING */
+    public long ownerOf(long todoId) {
+        long ownerId = todoOwners.get(todoId);
+        if (ownerId != MISSING) {
+            todoHitCounter.increment();
+            return ownerId;
+        }
+        todoMissCounter.increment();
+        ownerId = todoRepository.findOwnerIdById(todoId).orElse(MISSING);
+        if (ownerId != MISSING) {
+            put(todoOwners, todoId, ownerId);
+        }
+        return ownerId;
+    }
+
+    /** 담당자가 배치된 todo id. 담당자가 없으면 MISSING */
+    public long todoOf(long managerId) {
+        long todoId = managerTodos.get(managerId);
+        if (todoId != MISSING) {
+            managerHitCounter.increment();
+            return todoId;
+        }
+        managerMissCounter.increment();
+        todoId = managerRepository.findTodoIdById(managerId).orElse(MISSING);
+        if (todoId != MISSING) {
+            put(managerTodos, managerId, todoId);
+        }
+        return todoId;
+    }
+
+    public void recordTodo(long todoId, long ownerId) {
+        put(todoOwners, todoId, ownerId);
+    }
+
+    // 커밋된 뒤에만 채워 롤백된 todo 가 캐시에 남지 않게 한다. 이미 커밋된 뒤(트랜잭션 밖) 발행되면 즉시 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoSaved(TodoSavedEvent event) {
+        recordTodo(event.todoId(), event.ownerId());
+    }
+
+    public void recordManager(long managerId, long todoId) {
+        put(managerTodos, managerId, todoId);
+    }
+
+    public void invalidateManager(long managerId) {
+        managerTodos.remove(managerId);
+    }
+
+    /** todo 와 그 todo 의 담당자 매핑을 함께 지운다 */
+    public void invalidateTodo(long todoId) {
+        todoOwners.remove(todoId);
+        managerTodos.removeValue(todoId);
+    }
+
+    private void put(LongLongCache cache, long key, long value) {
+        if (cache.put(key, value)) {
+            evictionCounter.increment();
+        }
+    }
+}
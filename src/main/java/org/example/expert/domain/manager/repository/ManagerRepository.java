@@ -2,12 +2,27 @@ package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // (todo_id, user_id) 유니크 인덱스로 이미 담당자인 유저만 골라낸다
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Long> findAssignedUserIds(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
+
+    // 권한 확인용: 담당자가 속한 todo id 만 읽는다
+    @Query("SELECT m.todo.id FROM Manager m WHERE m.id = :managerId")
+    Optional<Long> findTodoIdById(@Param("managerId") Long managerId);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId")
+    int deleteManagerById(@Param("managerId") Long managerId);
 }
@@ -5,25 +5,36 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.log.service.LogService;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.ownership.OwnershipIndex;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.example.expert.domain.log.enums.LogAction.MANAGER_ASSIGN;
+import static org.example.expert.domain.log.enums.LogAction.MANAGER_BATCH_ASSIGN;
 import static org.example.expert.domain.log.enums.LogAction.MANAGER_DELETE;
 import static org.example.expert.domain.log.enums.LogStatus.FAIL;
 import static org.example.expert.domain.log.enums.LogStatus.SUCCESS;
@@ -37,6 +48,7 @@ public class ManagerService {
     private final TodoRepository todoRepository;
 
     private final LogService logService;
+    private final OwnershipIndex ownershipIndex;
     private final ObjectMapper objectMapper;
 
     @Transactional
@@ -50,12 +62,7 @@ public class ManagerService {
         ));
 
         try {
-            Todo todo = todoRepository.findById(todoId)
-                    .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-            if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(requesterId, todo.getUser().getId())) {
-                throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
-            }
+            checkTodoOwner(todoId, requesterId, "담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
 
             User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
                     .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
@@ -64,8 +71,14 @@ public class ManagerService {
                 throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
             }
 
-            Manager newManagerUser = new Manager(managerUser, todo);
-            Manager savedManagerUser = managerRepository.save(newManagerUser);
+            if (!managerRepository.findAssignedUserIds(todoId, List.of(managerUser.getId())).isEmpty()) {
+                throw new InvalidRequestException("이미 해당 일정의 담당자로 등록된 유저입니다.");
+            }
+
+            Manager savedManagerUser = new Manager(managerUser, todoRepository.getReferenceById(todoId));
+            saveAllOrConflict(List.of(savedManagerUser));
+            todoRepository.addManagerCount(todoId, 1);
+            registerAfterCommit(List.of(savedManagerUser), todoId);
 
             // 성공 로그
             safeLog(() -> logService.write(
@@ -91,16 +104,106 @@ public class ManagerService {
                     e.getMessage(),
                     payload
             ));
-            throw e; // 비즈니스 트랜잭션은 롤백되지만 위 로그는 이미 커밋됨
+            throw e; // 비즈니스 트랜잭션은 롤백되지만 위 로그는 감사 로그 writer 가 따로 저장
+        }
+
+    }
+
+    /**
+     * 여러 유저를 한 번에 담당자로 배치한다.
+     * 유저 조회와 기존 담당자 확인을 IN 쿼리 한 번씩으로 끝내고, 새 담당자는 한 번의 JDBC 배치로 넣는다.
+     * 등록할 수 없는 id 는 실패시키지 않고 유저별 결과로 알려준다. 감사 로그는 요청당 한 건.
+     */
+    @Transactional
+    public ManagerBatchSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBatchSaveRequest request) {
+        Long requesterId = authUser.getId();
+        List<Long> userIds = request.getManagerUserIds().stream().distinct().toList();
+
+        try {
+            checkTodoOwner(todoId, requesterId, "담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
+            Todo todo = todoRepository.getReferenceById(todoId);
+
+            Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+            Set<Long> assigned = users.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(managerRepository.findAssignedUserIds(todoId, users.keySet()));
+
+            List<Manager> newManagers = new ArrayList<>();
+            for (Long userId : userIds) {
+                User user = users.get(userId);
+                if (user != null && !userId.equals(requesterId) && !assigned.contains(userId)) {
+                    newManagers.add(new Manager(user, todo));
+                }
+            }
+            saveAllOrConflict(newManagers);
+            if (!newManagers.isEmpty()) {
+                todoRepository.addManagerCount(todoId, newManagers.size());
+                registerAfterCommit(newManagers, todoId);
+            }
+
+            Map<Long, Long> managerIds = newManagers.stream()
+                    .collect(Collectors.toMap(m -> m.getUser().getId(), Manager::getId));
+            List<ManagerBatchSaveResponse.Item> results = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                ManagerBatchSaveResponse.Outcome outcome;
+                if (!users.containsKey(userId)) {
+                    outcome = ManagerBatchSaveResponse.Outcome.USER_NOT_FOUND;
+                } else if (userId.equals(requesterId)) {
+                    outcome = ManagerBatchSaveResponse.Outcome.SELF_ASSIGNMENT;
+                } else if (assigned.contains(userId)) {
+                    outcome = ManagerBatchSaveResponse.Outcome.ALREADY_ASSIGNED;
+                } else {
+                    outcome = ManagerBatchSaveResponse.Outcome.ASSIGNED;
+                }
+                results.add(new ManagerBatchSaveResponse.Item(userId, outcome, managerIds.get(userId)));
+            }
+
+            safeLog(() -> logService.write(
+                    MANAGER_BATCH_ASSIGN,
+                    SUCCESS,
+                    requesterId,
+                    todoId,
+                    "managers assigned: " + newManagers.size() + "/" + userIds.size(),
+                    toJsonSafe(Map.of(
+                            "todoId", todoId,
+                            "requested", userIds,
+                            "assigned", managerIds.keySet()
+                    ))
+            ));
+            return new ManagerBatchSaveResponse(newManagers.size(), results);
+        } catch (Exception e) {
+            safeLog(() -> logService.write(
+                    MANAGER_BATCH_ASSIGN,
+                    FAIL,
+                    requesterId,
+                    todoId,
+                    e.getMessage(),
+                    toJsonSafe(Map.of("todoId", todoId, "requested", userIds))
+            ));
+            throw e;
         }
+    }
 
+    // 조회와 INSERT 사이에 다른 요청이 같은 담당자를 넣은 경우 유니크 인덱스 위반을 400 으로 알린다
+    private void saveAllOrConflict(List<Manager> managers) {
+        if (managers.isEmpty()) {
+            return;
+        }
+        try {
+            managerRepository.saveAll(managers);
+            managerRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("다른 요청에서 같은 담당자를 등록하는 중입니다. 다시 시도해주세요.");
+        }
     }
 
     public List<ManagerResponse> getManagers(AuthUser authUser, long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (ownershipIndex.ownerOf(todoId) == OwnershipIndex.MISSING) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todoId);
 
         List<ManagerResponse> dtoList = new ArrayList<>();
         for (Manager manager : managerList) {
@@ -124,21 +227,23 @@ public class ManagerService {
         ));
 
         try {
-            Todo todo = todoRepository.findById(todoId)
-                    .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+            checkTodoOwner(todoId, requesterId, "해당 일정을 만든 유저가 유효하지 않습니다.");
 
-            if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(requesterId, todo.getUser().getId())) {
-                throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+            long managerTodoId = ownershipIndex.todoOf(managerId);
+            if (managerTodoId == OwnershipIndex.MISSING) {
+                throw new InvalidRequestException("Manager not found");
             }
-
-            Manager manager = managerRepository.findById(managerId)
-                    .orElseThrow(() -> new InvalidRequestException("Manager not found"));
-
-            if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
+            if (managerTodoId != todoId) {
                 throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
             }
 
-            managerRepository.delete(manager);
+            // 캐시 확인 후 다른 요청이 먼저 지웠을 수 있으므로 실제 삭제 건수로 판단
+            if (managerRepository.deleteManagerById(managerId) == 0) {
+                ownershipIndex.invalidateManager(managerId);
+                throw new InvalidRequestException("Manager not found");
+            }
+            todoRepository.addManagerCount(todoId, -1);
+            ownershipIndex.invalidateManager(managerId);
 
             safeLog(() -> logService.write(
                     MANAGER_DELETE,
@@ -162,6 +267,30 @@ public class ManagerService {
         }
     }
 
+    // 작성자 확인: 캐시 적중 시 쿼리 없음, 아니면 작성자 id 만 조회
+    private void checkTodoOwner(long todoId, Long requesterId, String notOwnerMessage) {
+        long ownerId = ownershipIndex.ownerOf(todoId);
+        if (ownerId == OwnershipIndex.MISSING) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        if (!ObjectUtils.nullSafeEquals(requesterId, ownerId)) {
+            throw new InvalidRequestException(notOwnerMessage);
+        }
+    }
+
+    // 롤백된 담당자가 캐시에 남지 않도록 커밋 후에 기록
+    private void registerAfterCommit(List<Manager> managers, long todoId) {
+        long[] managerIds = managers.stream().mapToLong(Manager::getId).toArray();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (long managerId : managerIds) {
+                    ownershipIndex.recordManager(managerId, todoId);
+                }
+            }
+        });
+    }
+
     private String toJsonSafe(Object o) {
         try { return objectMapper.writeValueAsString(o); }
         catch (Exception e) { return "{\"_payload\":\"serialization_failed\"}"; }
@@ -3,27 +3,38 @@ package org.example.expert.domain.todo.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.enums.CountMode;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchItem;
+import org.example.expert.domain.todo.enums.ExportFormat;
+import org.example.expert.domain.todo.enums.NicknameMatch;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -33,12 +44,30 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping("/todos/batch")
+    public ResponseEntity<List<TodoSaveResponse>> saveTodos(
+            @AuthenticationPrincipal AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<Slice<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String count
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, CountMode.of(count)));
+    }
+
+    // cursor 파라미터가 있으면(첫 페이지는 빈 값) offset 대신 키셋 페이징으로 조회
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
     }
 
     @GetMapping("/todos/{todoId}")
@@ -47,30 +76,74 @@ public class TodoController {
     }
 
     @GetMapping("/todos/weather")
-    public Page<TodoResponse> searchTodos(
+    public Slice<TodoResponse> searchTodos(
             @Valid TodoSearchRequest request,
+            @RequestParam(required = false) String count,
             Pageable pageable
     ){
             return todoService.searchTodos(
                     request.getWeather(),
                     request.getStart(),
                     request.getEnd(),
-                    pageable
+                    pageable,
+                    CountMode.of(count)
             );
     }
 
     @GetMapping("/todos/search")
-    public Page<TodoSearchItem> search(
+    public Slice<TodoSearchItem> search(
             @RequestParam(required = false) String q,
             @RequestParam(required = false) String nickname,
+            @RequestParam(required = false) String nicknameMatch,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(required = false) String count,
             Pageable pageable
     ){
         if (q != null && q.isBlank()) q = null;
         if (nickname != null && nickname.isBlank()) nickname = null;
 
-        TodoSearchRequest req = new TodoSearchRequest(q, nickname, null, start, end);
-        return todoService.search(req, pageable);
+        TodoSearchRequest req = new TodoSearchRequest(q, nickname, null, start, end, NicknameMatch.of(nicknameMatch));
+        return todoService.search(req, pageable, CountMode.of(count));
+    }
+
+    @GetMapping(value = "/todos/search", params = "cursor")
+    public CursorResponse<TodoSearchItem> searchByCursor(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String nickname,
+            @RequestParam(required = false) String nicknameMatch,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ){
+        if (q != null && q.isBlank()) q = null;
+        if (nickname != null && nickname.isBlank()) nickname = null;
+
+        TodoSearchRequest req = new TodoSearchRequest(q, nickname, null, start, end, NicknameMatch.of(nicknameMatch));
+        return todoService.searchByCursor(req, cursor, size);
+    }
+
+    @GetMapping("/todos/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String nickname,
+            @RequestParam(required = false) String nicknameMatch,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ){
+        if (q != null && q.isBlank()) q = null;
+        if (nickname != null && nickname.isBlank()) nickname = null;
+
+        TodoSearchRequest req = new TodoSearchRequest(q, nickname, null, start, end, NicknameMatch.of(nicknameMatch));
+        ExportFormat exportFormat = ExportFormat.of(format);
+        String filename = "todos." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(todoExportService.export(req, exportFormat, gzip));
     }
 }
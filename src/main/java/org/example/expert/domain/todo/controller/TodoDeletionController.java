@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.Audited;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.log.enums.LogAction;
+import org.example.expert.domain.todo.dto.response.TodoDeletionResponse;
+import org.example.expert.domain.todo.service.TodoDeletionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoDeletionController {
+
+    private final TodoDeletionService todoDeletionService;
+
+    // 댓글이 많을 수 있으므로 바로 지우지 않고 202 로 접수만 한다. 진행 상황은 GET /todos/{todoId}/deletion
+    @Audited(action = LogAction.TODO_DELETE, target = "todoId")
+    @DeleteMapping("/todos/{todoId}")
+    public ResponseEntity<TodoDeletionResponse> deleteTodo(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long todoId
+    ) {
+        return ResponseEntity.accepted().body(todoDeletionService.requestDeletion(authUser, todoId));
+    }
+
+    @GetMapping("/todos/{todoId}/deletion")
+    public ResponseEntity<TodoDeletionResponse> getDeletion(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long todoId
+    ) {
+        return ResponseEntity.ok(todoDeletionService.getDeletion(authUser, todoId));
+    }
+}
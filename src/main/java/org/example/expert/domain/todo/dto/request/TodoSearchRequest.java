@@ -3,6 +3,7 @@ package org.example.expert.domain.todo.dto.request;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.todo.enums.NicknameMatch;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
@@ -21,6 +22,12 @@ public class TodoSearchRequest {
     @DateTimeFormat(iso=DateTimeFormat.ISO.DATE)
     private LocalDate end;
 
+    private NicknameMatch nicknameMatch = NicknameMatch.PREFIX;
+
+    public TodoSearchRequest(String title, String nickname, String weather, LocalDate start, LocalDate end) {
+        this(title, nickname, weather, start, end, NicknameMatch.PREFIX);
+    }
+
     public boolean hasTitle(){
         return title !=null && !title.isBlank();
     }
@@ -28,4 +35,25 @@ public class TodoSearchRequest {
     public boolean hasNickname(){
         return nickname!=null && !nickname.isBlank();
     }
+
+    public boolean isFiltered(){
+        return hasTitle() || hasNickname() || weather != null || start != null || end != null;
+    }
+
+    // count 캐시 키: 대소문자/공백/날짜 순서가 달라도 같은 조건이면 같은 키
+    public String countKey(){
+        LocalDate from = start;
+        LocalDate to = end;
+        if (from != null && to != null && from.isAfter(to)) {
+            from = end;
+            to = start;
+        }
+        return String.join("|",
+                hasTitle() ? title.strip().toLowerCase() : "",
+                hasNickname() ? nickname.strip().toLowerCase() : "",
+                String.valueOf(nicknameMatch),
+                weather != null ? weather : "",
+                String.valueOf(from),
+                String.valueOf(to));
+    }
 }
@@ -0,0 +1,29 @@
+package org.example.expert.domain.todo.dto.response;
+
+import org.example.expert.domain.todo.entity.TodoDeletion;
+import org.example.expert.domain.todo.enums.TodoDeletionStatus;
+
+import java.time.LocalDateTime;
+
+public record TodoDeletionResponse(
+        long todoId,
+        TodoDeletionStatus status,
+        long commentsTotal,
+        long commentsDeleted,
+        long managersDeleted,
+        LocalDateTime requestedAt,
+        LocalDateTime updatedAt
+) {
+
+    public static TodoDeletionResponse from(TodoDeletion deletion) {
+        return new TodoDeletionResponse(
+                deletion.getTodoId(),
+                deletion.getStatus(),
+                deletion.getCommentsTotal(),
+                deletion.getCommentsDeleted(),
+                deletion.getManagersDeleted(),
+                deletion.getCreatedAt(),
+                deletion.getModifiedAt()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.response;
+
+import java.time.LocalDateTime;
+
+public record TodoExportRow(
+        Long id,
+        String title,
+        String contents,
+        String weather,
+        Long userId,
+        long managerCount,
+        long commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+    public static final String CSV_HEADER =
+            "id,title,contents,weather,userId,managerCount,commentCount,createdAt,modifiedAt";
+}
@@ -4,9 +4,11 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.entity.IdSequences;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,20 +16,44 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(
+        name = "todos",
+        indexes = {
+                @Index(name = "ix_todo_created_at_id",  columnList = "created_at, id"),
+                @Index(name = "ix_todo_modified_at_id", columnList = "modified_at, id")
+        }
+)
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id_gen")
+    @TableGenerator(
+            name = "todo_id_gen",
+            table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.TODOS,
+            allocationSize = IdSequences.ALLOCATION_SIZE
+    )
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 검색 목록용 비정규화 카운터 – 증감은 TodoRepository 의 원자적 UPDATE 로만 반영 (엔티티 flush 로 덮어쓰지 않음)
+    @ColumnDefault("0")
+    @Column(name = "manager_count", nullable = false, updatable = false)
+    private long managerCount;
+
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private long commentCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 삭제는 TodoDeletionJob 이 댓글을 청크 단위 DELETE 로 지운다 (cascade REMOVE 는 댓글을 전부 로딩하므로 쓰지 않음)
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
@@ -39,5 +65,6 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size(); // cascade 로 함께 저장되는 작성자 담당자
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.todo.enums.TodoDeletionStatus;
+
+/**
+ * todo 삭제 요청과 진행 상황. 진행 카운터와 상태는 TodoDeletionJob 이 청크마다 JDBC 로 갱신한다.
+ * todo 행이 지워진 뒤에도 결과 조회를 위해 남는다.
+ */
+@Entity
+@Table(
+        name = "todo_deletions",
+        indexes = {
+                @Index(name = "ix_todo_deletions_status_created_at", columnList = "status, created_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TodoDeletion extends Timestamped {
+
+    @Id
+    @Column(name = "todo_id")
+    private Long todoId;
+
+    @Column(name = "requester_id", nullable = false)
+    private Long requesterId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TodoDeletionStatus status;
+
+    // 요청 시점의 todos.comment_count (진행률 표시용 추정치)
+    @Column(name = "comments_total", nullable = false)
+    private long commentsTotal;
+
+    @Column(name = "comments_deleted", nullable = false)
+    private long commentsDeleted;
+
+    @Column(name = "managers_deleted", nullable = false)
+    private long managersDeleted;
+
+    public TodoDeletion(Long todoId, Long requesterId, long commentsTotal) {
+        this.todoId = todoId;
+        this.requesterId = requesterId;
+        this.status = TodoDeletionStatus.PENDING;
+        this.commentsTotal = commentsTotal;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat of(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        return Arrays.stream(ExportFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 export format"));
+    }
+}
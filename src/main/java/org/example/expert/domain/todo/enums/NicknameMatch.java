@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+public enum NicknameMatch {
+    PREFIX,   // nickname LIKE 'x%'  – users.nickname 인덱스 사용 (기본값)
+    CONTAINS; // nickname LIKE '%x%' – 인덱스를 타지 못하므로 명시적으로 요청할 때만
+
+    public static NicknameMatch of(String value) {
+        if (value == null || value.isBlank()) {
+            return PREFIX;
+        }
+        return Arrays.stream(NicknameMatch.values())
+                .filter(m -> m.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 nicknameMatch"));
+    }
+}
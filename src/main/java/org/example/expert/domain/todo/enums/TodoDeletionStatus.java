@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.enums;
+
+public enum TodoDeletionStatus {
+    PENDING, // 요청됨, 아직 작업이 집어가지 않음
+    RUNNING, // 댓글/담당자를 청크 단위로 지우는 중 (중단되면 다음 실행에서 이어서)
+    DONE     // todo 까지 삭제 완료
+}
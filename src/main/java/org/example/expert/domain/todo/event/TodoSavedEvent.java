@@ -0,0 +1,11 @@
+package org.example.expert.domain.todo.event;
+
+/**
+ * Todo 가 저장된 뒤 발행되는 이벤트. 커밋 이후 리스너(@TransactionalEventListener)에서 소비한다.
+ */
+public record TodoSavedEvent(
+        Long todoId,
+        Long ownerId,
+        String title
+) {
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface TodoDeletionRepository extends JpaRepository<TodoDeletion, Long> {
+
+    // 요청 순으로 끝나지 않은 삭제 작업 (중단된 RUNNING 포함)
+    @Query("SELECT d.todoId FROM TodoDeletion d " +
+            "WHERE d.status <> org.example.expert.domain.todo.enums.TodoDeletionStatus.DONE " +
+            "ORDER BY d.createdAt")
+    List<Long> findUnfinishedTodoIds(Pageable pageable);
+}
@@ -3,22 +3,81 @@ package org.example.expert.domain.todo.repository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
+    // fetch join 쿼리에서 count 를 유도하지 않도록 countQuery 를 분리
+    @Query(value = "SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
+    // count 쿼리 없이 size+1 조회
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
+    Slice<Todo> findSliceByOrderByModifiedAtDesc(Pageable pageable);
+
     @Query("SELECT t FROM Todo t " +
             "WHERE (:weather IS NULL OR t.weather = :weather) " +
             "AND (:start IS NULL OR t.modifiedAt >= :start) " +
             "AND (:end IS NULL OR t.modifiedAt <= :end) " +
             "ORDER BY t.modifiedAt DESC")
     Page<Todo> findByWeatherAndModifiedAtBetween(@Param("weather") String weather, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end, Pageable pageable);
+
+    @Query("SELECT t FROM Todo t " +
+            "WHERE (:weather IS NULL OR t.weather = :weather) " +
+            "AND (:start IS NULL OR t.modifiedAt >= :start) " +
+            "AND (:end IS NULL OR t.modifiedAt <= :end) " +
+            "ORDER BY t.modifiedAt DESC")
+    Slice<Todo> findSliceByWeatherAndModifiedAtBetween(@Param("weather") String weather, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end, Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM Todo t " +
+            "WHERE (:weather IS NULL OR t.weather = :weather) " +
+            "AND (:start IS NULL OR t.modifiedAt >= :start) " +
+            "AND (:end IS NULL OR t.modifiedAt <= :end)")
+    long countByWeatherAndModifiedAtBetween(@Param("weather") String weather, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 제목 색인 적재용 (id, title) 청크 조회
+    @Query("SELECT t.id, t.title FROM Todo t WHERE t.id > :afterId ORDER BY t.id")
+    List<Object[]> findIdAndTitleAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    // 제목 색인 누락 확인용: 색인한 최대 id 이하의 행 수
+    long countByIdLessThanEqual(Long id);
+
+    // === 비정규화 카운터 (원자적 증감, 반환값 0 이면 todo 없음) ===
+    @Modifying
+    @Query(value = "UPDATE todos SET comment_count = comment_count + :delta WHERE id = :todoId", nativeQuery = true)
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE todos SET manager_count = manager_count + :delta WHERE id = :todoId", nativeQuery = true)
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    // === 카운터 보정 배치 ===
+    @Query(value = "SELECT MAX(x.id) FROM (SELECT id FROM todos WHERE id > :afterId ORDER BY id LIMIT :size) x", nativeQuery = true)
+    Long findBatchUpperId(@Param("afterId") long afterId, @Param("size") int size);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE todos t SET " +
+            "manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id), " +
+            "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) " +
+            "WHERE t.id > :afterId AND t.id <= :toId", nativeQuery = true)
+    int reconcileCounters(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    // 권한 확인용: 작성자 id 만 읽는다 (user 조인 없음)
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    // 삭제 진행률 표시용
+    @Query("SELECT t.commentCount FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findCommentCountById(@Param("todoId") Long todoId);
 }
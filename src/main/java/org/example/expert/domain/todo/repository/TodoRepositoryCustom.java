@@ -1,6 +1,9 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.paging.SliceWithCount;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
 import org.example.expert.domain.todo.dto.response.TodoSearchItem;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
@@ -8,8 +11,22 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TodoRepositoryCustom {
     Optional<Todo> findByIdWithUser(Long todoId);
     Page<TodoSearchItem> searchPage(TodoSearchRequest req, Pageable pageable);
+
+    // size+1 조회로 hasNext 만 계산하고, count 는 같은 조건으로 나중에 셀 수 있게 돌려준다.
+    // 조건(닉네임 → user id, 제목 색인 조회 포함)은 한 번만 만들어 목록과 count 가 같이 쓴다
+    SliceWithCount<TodoSearchItem> searchSlice(TodoSearchRequest req, Pageable pageable);
+
+    // StatelessSession + forward-only 커서로 조건에 맞는 todo 를 한 행씩 흘려보낸다 (id 오름차순)
+    void streamForExport(TodoSearchRequest req, int fetchSize, Consumer<TodoExportRow> consumer);
+
+    // 키셋 페이징: cursor 이후 (createdAt, id) 내림차순으로 limit 건
+    List<TodoSearchItem> searchAfter(TodoSearchRequest req, Cursor cursor, int limit);
+
+    // 키셋 페이징: cursor 이후 (modifiedAt, id) 내림차순으로 limit 건 (user fetch join)
+    List<Todo> findAllAfter(Cursor cursor, int limit);
 }
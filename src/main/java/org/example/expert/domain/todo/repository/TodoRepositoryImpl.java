@@ -1,24 +1,45 @@
 package org.example.expert.domain.todo.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.jpa.HQLTemplates;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.impl.JPAUtil;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.comment.entity.QComment;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.paging.SliceWithCount;
 import org.example.expert.domain.manager.entity.QManager;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
 import org.example.expert.domain.todo.dto.response.TodoSearchItem;
 import org.example.expert.domain.todo.entity.QTodo;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.NicknameMatch;
 import org.example.expert.domain.todo.repository.TodoRepositoryCustom;
+import org.example.expert.domain.todo.search.TodoTitleIndex;
 import org.example.expert.domain.user.entity.QUser;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
@@ -27,11 +48,14 @@ import org.springframework.stereotype.Repository;
 public class TodoRepositoryImpl implements TodoRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final TodoTitleIndex titleIndex;
+    private final EntityManagerFactory entityManagerFactory;
 
     private static final QTodo TODO = QTodo.todo;
     private static final QManager MANAGER = QManager.manager;
     private static final QUser USER = QUser.user;
-    private static final QComment COMMENT = QComment.comment;
+    private static final List<Long> NO_MATCH = List.of(-1L); // 후보가 없을 때 빈 IN 절 대신 사용
+    private static final int MAX_NICKNAME_USER_IDS = 1_000;
 
     @Override
     public Optional<Todo> findByIdWithUser(Long todoId) {
@@ -48,64 +72,147 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
     public Page<TodoSearchItem> searchPage(TodoSearchRequest req, Pageable pageable) {
         BooleanBuilder where = buildCommonPredicate(req);
 
-        // 1) 콘텐츠 쿼리 (그룹바이 페이징 + 필요한 필드만)
-        JPAQuery<TodoSearchItem> contentQuery = queryFactory
-                .select(Projections.constructor(
-                        TodoSearchItem.class,
-                        TODO.id,
-                        TODO.title,
-                        MANAGER.id.countDistinct(),   // 담당자 수
-                        COMMENT.id.countDistinct(),   // 댓글 수
-                        TODO.createdAt
-                ))
-                .from(TODO)
-                .leftJoin(TODO.managers, MANAGER)
-                .leftJoin(TODO.comments, COMMENT);
-
-        if (req.hasNickname()) {
-            contentQuery.leftJoin(MANAGER.user, USER);
-            where.and(USER.nickname.containsIgnoreCase(req.getNickname()));
-        }
-
-        List<TodoSearchItem> content = contentQuery
+        // 1) 콘텐츠 쿼리 (todos 단일 테이블 + 비정규화 카운터, 조인/그룹바이 없음)
+        List<TodoSearchItem> content = selectSearchItem()
                 .where(where)
-                .groupBy(TODO.id)
-                .orderBy(TODO.createdAt.desc())
+                .orderBy(TODO.createdAt.desc(), TODO.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 2) 카운트 쿼리 (가볍게: 댓글 조인 불필요)
-        JPAQuery<Long> countQuery = queryFactory
-                .select(TODO.id.countDistinct())
-                .from(TODO)
-                .leftJoin(TODO.managers, MANAGER);
-
-        if (req.hasNickname()) {
-            countQuery.leftJoin(MANAGER.user, USER);
-        }
-
+        // 2) 카운트 쿼리 (같은 단일 테이블 조건)
         Page<TodoSearchItem> page = PageableExecutionUtils.getPage(
                 content,
                 pageable,
-                () -> {
-                    Long cnt = countQuery.where(where).fetchOne();
-                    return cnt != null ? cnt : 0L;
-                }
+                () -> count(where)
         );
 
         // 필요 시 PageImpl로 감싸고 싶다면 아래처럼:
         return new PageImpl<>(page.getContent(), pageable, page.getTotalElements());
     }
 
+    @Override
+    public SliceWithCount<TodoSearchItem> searchSlice(TodoSearchRequest req, Pageable pageable) {
+        BooleanBuilder where = buildCommonPredicate(req);
+        List<TodoSearchItem> content = selectSearchItem()
+                .where(where)
+                .orderBy(TODO.createdAt.desc(), TODO.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceWithCount<>(new SliceImpl<>(content, pageable, hasNext), () -> count(where));
+    }
+
+    private long count(Predicate where) {
+        Long cnt = queryFactory
+                .select(TODO.count())
+                .from(TODO)
+                .where(where)
+                .fetchOne();
+        return cnt != null ? cnt : 0L;
+    }
+
+    @Override
+    public List<TodoSearchItem> searchAfter(TodoSearchRequest req, Cursor cursor, int limit) {
+        BooleanBuilder where = buildCommonPredicate(req);
+        if (cursor != null) {
+            where.and(seekAfter(TODO.createdAt, cursor));
+        }
+
+        // offset 없이 (createdAt, id) 인덱스를 따라 바로 시작 위치로 이동
+        return selectSearchItem()
+                .where(where)
+                .orderBy(TODO.createdAt.desc(), TODO.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public void streamForExport(TodoSearchRequest req, int fetchSize, Consumer<TodoExportRow> consumer) {
+        // 공통 조건을 그대로 쓰기 위해 QueryDSL 로 만든 뒤 JPQL 로 직렬화해 StatelessSession 에서 실행.
+        // JPAQueryFactory 가 Hibernate 에서 고르는 것과 같은 HQLTemplates 로 직렬화해 검색/내보내기의 SQL 을 맞춘다
+        JPAQuery<Tuple> query = queryFactory
+                .select(TODO.id, TODO.title, TODO.contents, TODO.weather, TODO.user.id,
+                        TODO.managerCount, TODO.commentCount, TODO.createdAt, TODO.modifiedAt)
+                .from(TODO)
+                .where(buildCommonPredicate(req))
+                .orderBy(TODO.id.asc());
+
+        JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
+        serializer.serialize(query.getMetadata(), false, null);
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction tx = session.beginTransaction();
+            org.hibernate.query.Query<Object[]> exportQuery = session.createQuery(serializer.toString(), Object[].class);
+            JPAUtil.setConstants(exportQuery, serializer.getConstants(), query.getMetadata().getParams());
+            exportQuery.setFetchSize(fetchSize);
+            exportQuery.setReadOnly(true);
+
+            try (ScrollableResults<Object[]> rows = exportQuery.scroll(ScrollMode.FORWARD_ONLY)) {
+                while (rows.next()) {
+                    Object[] r = rows.get();
+                    consumer.accept(new TodoExportRow(
+                            (Long) r[0], (String) r[1], (String) r[2], (String) r[3], (Long) r[4],
+                            (Long) r[5], (Long) r[6], (LocalDateTime) r[7], (LocalDateTime) r[8]
+                    ));
+                }
+            }
+            tx.commit();
+        }
+    }
+
+    private JPAQuery<TodoSearchItem> selectSearchItem() {
+        return queryFactory
+                .select(Projections.constructor(
+                        TodoSearchItem.class,
+                        TODO.id,
+                        TODO.title,
+                        TODO.managerCount,   // 담당자 수
+                        TODO.commentCount,   // 댓글 수
+                        TODO.createdAt
+                ))
+                .from(TODO);
+    }
+
+    @Override
+    public List<Todo> findAllAfter(Cursor cursor, int limit) {
+        return queryFactory
+                .selectFrom(TODO)
+                .leftJoin(TODO.user, USER).fetchJoin()
+                .where(cursor != null ? seekAfter(TODO.modifiedAt, cursor) : null)
+                .orderBy(TODO.modifiedAt.desc(), TODO.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // === 키셋 조건: (sortKey, id) < (cursor.at, cursor.id) ===
+    // JPQL 은 row value 비교를 지원하지 않으므로 동등한 OR 형태로 풀어서 작성
+    private BooleanExpression seekAfter(DateTimePath<LocalDateTime> sortKey, Cursor cursor) {
+        return sortKey.lt(cursor.at())
+                .or(sortKey.eq(cursor.at()).and(TODO.id.lt(cursor.id())));
+    }
+
     // === 공통 where ===
     private BooleanBuilder buildCommonPredicate(TodoSearchRequest req) {
         BooleanBuilder where = new BooleanBuilder();
 
         if (req.hasTitle()) {
+            // trigram 색인으로 후보 id 를 좁힌 뒤, 실제 부분 일치는 LIKE 로 재확인
+            titleIndex.findCandidates(req.getTitle(), this::maxTodoId)
+                    .ifPresent(ids -> where.and(TODO.id.in(ids.isEmpty() ? NO_MATCH : ids)));
             where.and(TODO.title.containsIgnoreCase(req.getTitle()));
         }
 
+        if (req.hasNickname()) {
+            where.and(managerNicknameExists(req.getNickname(), req.getNicknameMatch()));
+        }
+
         LocalDate start = req.getStart();
         LocalDate end   = req.getEnd();
         LocalDate[] norm = normalizeDates(start, end);
@@ -115,6 +222,48 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
         return where;
     }
 
+    // 색인 완전성 확인용: PK 인덱스 끝만 읽는다
+    private long maxTodoId() {
+        Long maxId = queryFactory.select(TODO.id.max()).from(TODO).fetchOne();
+        return maxId != null ? maxId : 0L;
+    }
+
+    // === 담당자 닉네임: 조인으로 행을 늘리지 않도록 EXISTS 세미조인 ===
+    // 1) users.nickname 인덱스로 일치하는 user id 를 먼저 구하고
+    // 2) EXISTS (select 1 from managers where todo_id = t.id and user_id in (...)) 로 거른다.
+    // 일치하는 유저가 너무 많으면 IN 목록 대신 users 조인 서브쿼리로 대체한다.
+    // 닉네임은 기존처럼 대소문자를 구분하지 않는다. CONTAINS 는 어차피 인덱스를 못 타므로 lower() 로 비교하고,
+    // PREFIX 는 lower() 를 씌우면 ix_users_nickname 을 못 타므로 users.nickname 컬럼의 _ci collation
+    // (MySQL 기본 utf8mb4_0900_ai_ci)에 대소문자 무시를 맡긴다. collation 을 _bin/_cs 로 바꾸면 PREFIX 가 대소문자를 구분하게 된다.
+    private BooleanExpression managerNicknameExists(String nickname, NicknameMatch match) {
+        BooleanExpression nicknameCond = match == NicknameMatch.CONTAINS
+                ? USER.nickname.containsIgnoreCase(nickname)
+                : USER.nickname.startsWith(nickname);
+
+        List<Long> userIds = queryFactory
+                .select(USER.id)
+                .from(USER)
+                .where(nicknameCond)
+                .limit(MAX_NICKNAME_USER_IDS + 1)
+                .fetch();
+
+        if (userIds.size() > MAX_NICKNAME_USER_IDS) {
+            return JPAExpressions
+                    .selectOne()
+                    .from(MANAGER)
+                    .join(MANAGER.user, USER)
+                    .where(MANAGER.todo.id.eq(TODO.id), nicknameCond)
+                    .exists();
+        }
+
+        return JPAExpressions
+                .selectOne()
+                .from(MANAGER)
+                .where(MANAGER.todo.id.eq(TODO.id),
+                        MANAGER.user.id.in(userIds.isEmpty() ? NO_MATCH : userIds))
+                .exists();
+    }
+
     private LocalDate[] normalizeDates(LocalDate start, LocalDate end) {
         if (start != null && end != null && start.isAfter(end)) {
             return new LocalDate[]{end, start};
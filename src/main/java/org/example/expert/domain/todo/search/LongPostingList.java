@@ -0,0 +1,88 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 long id 목록을 delta + varint 로 압축해 보관하는 포스팅 리스트.
+ * id 는 IDENTITY 로 증가하므로 대부분 끝에 append 되고, 순서가 어긋난 경우에만 재인코딩한다.
+ * 동기화는 TodoTitleIndex 의 락에 맡긴다.
+ */
+final class LongPostingList {
+
+    private byte[] buf = new byte[8];
+    private int length;
+    private int count;
+    private long last;
+
+    void add(long id) {
+        if (id > last) {
+            writeVarLong(id - last);
+            last = id;
+            count++;
+            return;
+        }
+        long[] ids = toArray();
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        long[] merged = new long[ids.length + 1];
+        System.arraycopy(ids, 0, merged, 0, insertAt);
+        merged[insertAt] = id;
+        System.arraycopy(ids, insertAt, merged, insertAt + 1, ids.length - insertAt);
+        reset();
+        for (long value : merged) {
+            add(value);
+        }
+    }
+
+    long[] toArray() {
+        long[] ids = new long[count];
+        long prev = 0L;
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            long delta = 0L;
+            int shift = 0;
+            byte b;
+            do {
+                b = buf[pos++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            prev += delta;
+            ids[i] = prev;
+        }
+        return ids;
+    }
+
+    int size() {
+        return count;
+    }
+
+    int capacityBytes() {
+        return buf.length;
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buf[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, length + extra));
+        }
+    }
+
+    private void reset() {
+        buf = new byte[8];
+        length = 0;
+        count = 0;
+        last = 0L;
+    }
+}
@@ -0,0 +1,267 @@
+package org.example.expert.domain.todo.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.hash.LongHashSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Todo.title 에 대한 메모리 trigram 역색인.
+ * <p>
+ * 검색어의 trigram 포스팅을 교집합해 후보 id 를 구하고, 실제 부분 문자열 일치 여부는 DB 에서 다시 거른다.
+ * 검색어가 3자 미만이거나, 색인이 아직 준비되지 않았거나, 후보가 너무 많으면 Optional.empty() 를 돌려
+ * 기존 LIKE 검색으로 대체한다. 전체 포스팅 크기가 max-bytes 를 넘으면 색인을 비활성화한다.
+ * <p>
+ * 후보 목록은 id IN (...) 으로 강하게 거르므로 색인에 빠진 todo 는 검색 결과에서 사라진다. 그래서
+ * <ul>
+ *     <li>이 JVM 이 모든 todo 저장을 보는 단일 노드 배포(single-node=true)에서만 켜고,</li>
+ *     <li>조회마다 DB 의 MAX(id) 가 색인한 최대 id 이하인지 확인해 SQL/import 등으로 들어온 행이 있으면
+ *     LIKE 로 대체한다 (뒤처진 부분은 TodoTitleIndexLoader 가 주기적으로 따라잡는다).</li>
+ *     <li>최대 id 아래로 이벤트 없이 들어온 행(import, 이벤트 리스너 실패 등)은 MAX(id) 로 알 수 없으므로
+ *     TodoTitleIndexLoader 가 주기적으로 색인한 todo 수와 DB 의 행 수를 비교해, 다르면 {@link #clear()} 후
+ *     다시 채운다. 다시 채우는 동안에는 LIKE 로 대체한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TodoTitleIndex {
+
+    private static final int GRAM = 3;
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final int maxCandidates;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, LongPostingList> postings = new HashMap<>();
+    private long totalBytes;
+    private LongHashSet documents = new LongHashSet(); // 색인한 todo id (같은 id 가 두 번 들어와도 한 번만 센다)
+    private long maxIndexedId;
+    private volatile boolean ready;
+    private volatile boolean overflow;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter fallbackCounter;
+    private final Counter staleCounter;
+
+    public TodoTitleIndex(
+            MeterRegistry meterRegistry,
+            @Value("${todo.search.title-index.enabled:true}") boolean enabled,
+            @Value("${todo.search.title-index.single-node:false}") boolean singleNode,
+            @Value("${todo.search.title-index.max-bytes:67108864}") long maxBytes,
+            @Value("${todo.search.title-index.max-candidates:5000}") int maxCandidates
+    ) {
+        // 다른 노드에서 저장된 todo 는 이 색인에 들어오지 않으므로 단일 노드일 때만 쓴다
+        this.enabled = enabled && singleNode;
+        if (enabled && !singleNode) {
+            log.info("todo title index disabled: single-node=false, using LIKE search");
+        }
+        this.maxBytes = maxBytes;
+        this.maxCandidates = maxCandidates;
+
+        this.hitCounter = meterRegistry.counter("todo.title.index.lookups", "result", "hit");
+        this.missCounter = meterRegistry.counter("todo.title.index.lookups", "result", "miss");
+        this.fallbackCounter = meterRegistry.counter("todo.title.index.lookups", "result", "fallback");
+        this.staleCounter = meterRegistry.counter("todo.title.index.lookups", "result", "stale");
+        Gauge.builder("todo.title.index.terms", this, TodoTitleIndex::termCount).register(meterRegistry);
+        Gauge.builder("todo.title.index.documents", this, TodoTitleIndex::documentCount).register(meterRegistry);
+        Gauge.builder("todo.title.index.bytes", this, TodoTitleIndex::sizeInBytes).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void add(long todoId, String title) {
+        if (!enabled || overflow || title == null) {
+            return;
+        }
+        Set<Long> grams = trigrams(title);
+
+        lock.writeLock().lock();
+        try {
+            for (Long gram : grams) {
+                LongPostingList list = postings.computeIfAbsent(gram, k -> new LongPostingList());
+                int before = list.capacityBytes();
+                list.add(todoId);
+                totalBytes += list.capacityBytes() - before;
+            }
+            documents.add(todoId);
+            maxIndexedId = Math.max(maxIndexedId, todoId);
+
+            if (totalBytes > maxBytes) {
+                log.warn("todo title index exceeded {} bytes – disabled, falling back to LIKE search", maxBytes);
+                overflow = true;
+                postings.clear();
+                documents = new LongHashSet();
+                totalBytes = 0L;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 삭제된 todo 를 색인 수에서 뺀다. 포스팅에 남은 id 는 DB 에서 걸러지므로 그대로 둔다 */
+    public void remove(long todoId) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            documents.remove(todoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 색인을 비우고 다시 채울 때까지 조회에 쓰지 않는다 */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            postings.clear();
+            documents = new LongHashSet();
+            totalBytes = 0L;
+            maxIndexedId = 0L;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 용량 초과로 꺼진 색인은 다시 채워도 쓰지 않으므로 준비되지 않은 것으로 본다
+    public boolean isReady() {
+        return ready && !overflow;
+    }
+
+    // 초기 적재가 끝난 뒤에만 조회에 사용
+    public void markReady() {
+        ready = true;
+        log.info("todo title index ready: documents={}, terms={}, bytes={}", documentCount(), termCount(), sizeInBytes());
+    }
+
+    /**
+     * @param dbMaxId 현재 todos 의 MAX(id). 다른 조건으로 이미 대체가 정해지면 호출하지 않는다
+     * @return 후보 todo id (오름차순). 색인을 쓸 수 없으면 Optional.empty()
+     */
+    public Optional<List<Long>> findCandidates(String query, LongSupplier dbMaxId) {
+        if (!enabled || !ready || overflow || query == null || query.strip().length() < GRAM) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+        // 색인하지 못한 행이 있을 수 있으면 LIKE 로 대체 (커밋 직후 이벤트 반영 전인 경우도 포함)
+        if (dbMaxId.getAsLong() > maxIndexedId()) {
+            staleCounter.increment();
+            return Optional.empty();
+        }
+        Set<Long> grams = trigrams(query.strip());
+
+        long[] result;
+        lock.readLock().lock();
+        try {
+            List<LongPostingList> lists = new ArrayList<>(grams.size());
+            for (Long gram : grams) {
+                LongPostingList list = postings.get(gram);
+                if (list == null) {
+                    missCounter.increment();
+                    return Optional.of(List.of());
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(LongPostingList::size));
+
+            result = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i).toArray());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (result.length > maxCandidates) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+        (result.length == 0 ? missCounter : hitCounter).increment();
+        return Optional.of(Arrays.stream(result).boxed().toList());
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 지금까지 색인한 가장 큰 todo id (없으면 0) */
+    public long maxIndexedId() {
+        lock.readLock().lock();
+        try {
+            return maxIndexedId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Set<Long> trigrams(String text) {
+        String normalized = text.toLowerCase(Locale.ROOT);
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            grams.add(((long) normalized.charAt(i) << 32)
+                    | ((long) normalized.charAt(i + 1) << 16)
+                    | normalized.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
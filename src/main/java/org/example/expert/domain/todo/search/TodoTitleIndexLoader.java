@@ -0,0 +1,92 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 기동 시 todos 를 id 순 청크로 읽어 TodoTitleIndex 를 채우고, 이후 저장분은 커밋 이벤트로 반영한다.
+ * 이벤트 없이 들어온 행(SQL, import 등)은 catch-up-interval 마다 색인한 최대 id 이후를 읽어 따라잡고,
+ * 최대 id 이하의 행 수가 색인한 todo 수와 다르면(최대 id 아래로 빠진 행이 있으면) 색인을 다시 채운다.
+ * (id, title) 만 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoTitleIndexLoader {
+
+    private static final int CHUNK_SIZE = 5_000;
+
+    private final TodoRepository todoRepository;
+    private final TodoTitleIndex titleIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!titleIndex.isEnabled()) {
+            return;
+        }
+        loadAfter(0L);
+        titleIndex.markReady();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.search.title-index.catch-up-interval:30s}")
+    public void catchUp() {
+        if (!titleIndex.isEnabled()) {
+            return;
+        }
+        long added = loadAfter(titleIndex.maxIndexedId());
+        if (added > 0) {
+            log.info("todo title index caught up: added={}", added);
+        }
+        if (titleIndex.isReady() && !countMatches()) {
+            rebuild();
+        }
+    }
+
+    // 커밋 직후 이벤트 반영 전인 행 때문에 잠깐 어긋날 수 있지만, 그 경우에도 다시 채우면 맞춰진다
+    private boolean countMatches() {
+        long indexed = titleIndex.documentCount();
+        long stored = todoRepository.countByIdLessThanEqual(titleIndex.maxIndexedId());
+        if (indexed == stored) {
+            return true;
+        }
+        log.warn("todo title index out of sync: indexed={}, stored={} – rebuilding", indexed, stored);
+        return false;
+    }
+
+    private void rebuild() {
+        titleIndex.clear();
+        long added = loadAfter(0L);
+        titleIndex.markReady();
+        log.info("todo title index rebuilt: documents={}", added);
+    }
+
+    private long loadAfter(long afterId) {
+        long added = 0L;
+        List<Object[]> rows;
+        do {
+            rows = todoRepository.findIdAndTitleAfter(afterId, PageRequest.ofSize(CHUNK_SIZE));
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                titleIndex.add(afterId, (String) row[1]);
+            }
+            added += rows.size();
+        } while (rows.size() == CHUNK_SIZE);
+        return added;
+    }
+
+    // 트랜잭션 안에서 발행되면 커밋 후, 이미 커밋된 뒤(트랜잭션 밖) 발행되면 즉시 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoSaved(TodoSavedEvent event) {
+        titleIndex.add(event.todoId(), event.title());
+    }
+}
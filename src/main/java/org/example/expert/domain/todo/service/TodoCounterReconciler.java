@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * todos.manager_count / comment_count 가 실제 행 수와 어긋난 경우(수동 삭제, 장애 등) 보정한다.
+ * id 순으로 batchSize 만큼 잘라 배치마다 별도 트랜잭션으로 갱신하므로 긴 락을 잡지 않는다.
+ */
+@Slf4j
+@Component
+public class TodoCounterReconciler {
+
+    private final TodoRepository todoRepository;
+    private final int batchSize;
+
+    public TodoCounterReconciler(
+            TodoRepository todoRepository,
+            @Value("${todo.counter.reconcile.batch-size:1000}") int batchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${todo.counter.reconcile.cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        long afterId = 0L;
+        long batches = 0L;
+
+        Long toId;
+        while ((toId = todoRepository.findBatchUpperId(afterId, batchSize)) != null) {
+            todoRepository.reconcileCounters(afterId, toId);
+            afterId = toId;
+            batches++;
+        }
+
+        log.info("todo counter reconcile finished: batches={}, lastId={}", batches, afterId);
+    }
+}
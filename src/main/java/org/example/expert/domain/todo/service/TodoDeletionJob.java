@@ -0,0 +1,173 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.manager.ownership.OwnershipIndex;
+import org.example.expert.domain.todo.repository.TodoDeletionRepository;
+import org.example.expert.domain.todo.search.TodoTitleIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접수된 todo 삭제(todo_deletions)를 처리한다.
+ * <p>
+ * 댓글 → 담당자 순으로 "DELETE ... WHERE todo_id = ? LIMIT chunk-size" 를 0건이 될 때까지 반복하고, 마지막에 todo 를 지운다.
+ * 청크마다 별도 트랜잭션에서 삭제와 진행 카운터 갱신을 함께 커밋하므로 긴 락을 잡지 않고, 엔티티를 읽지 않아 댓글 수와 무관하게
+ * 메모리를 쓰지 않는다. 남은 행을 WHERE todo_id 로 다시 찾으므로 중간에 죽어도 다음 실행이 그대로 이어간다.
+ * 여러 노드가 같은 작업을 동시에 잡아도 같은 행을 지우려다 0건이 될 뿐 결과는 같다.
+ */
+@Slf4j
+@Component
+public class TodoDeletionJob {
+
+    private static final String MARK_RUNNING_SQL =
+            "UPDATE todo_deletions SET status = 'RUNNING', modified_at = ? WHERE todo_id = ? AND status = 'PENDING'";
+    private static final String MARK_DONE_SQL =
+            "UPDATE todo_deletions SET status = 'DONE', modified_at = ? WHERE todo_id = ?";
+    private static final String DELETE_COMMENTS_SQL = "DELETE FROM comments WHERE todo_id = ? LIMIT ?";
+    private static final String DELETE_MANAGERS_SQL = "DELETE FROM managers WHERE todo_id = ? LIMIT ?";
+    private static final String DELETE_TODO_SQL = "DELETE FROM todos WHERE id = ?";
+    private static final String COMMENTS_PROGRESS_SQL =
+            "UPDATE todo_deletions SET comments_deleted = comments_deleted + ?, modified_at = ? WHERE todo_id = ?";
+    private static final String MANAGERS_PROGRESS_SQL =
+            "UPDATE todo_deletions SET managers_deleted = managers_deleted + ?, modified_at = ? WHERE todo_id = ?";
+    private static final int MAX_FINAL_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate txTemplate;
+    private final TodoDeletionRepository todoDeletionRepository;
+    private final OwnershipIndex ownershipIndex;
+    private final TodoTitleIndex titleIndex;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int maxJobsPerRun;
+    private final long pauseNanos;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter commentsCounter;
+    private final Counter managersCounter;
+    private final Counter todosCounter;
+
+    public TodoDeletionJob(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            TodoDeletionRepository todoDeletionRepository,
+            OwnershipIndex ownershipIndex,
+            TodoTitleIndex titleIndex,
+            MeterRegistry meterRegistry,
+            @Value("${todo.deletion.enabled:true}") boolean enabled,
+            @Value("${todo.deletion.chunk-size:500}") int chunkSize,
+            @Value("${todo.deletion.max-jobs-per-run:10}") int maxJobsPerRun,
+            @Value("${todo.deletion.pause:50ms}") Duration pause
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.todoDeletionRepository = todoDeletionRepository;
+        this.ownershipIndex = ownershipIndex;
+        this.titleIndex = titleIndex;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.maxJobsPerRun = maxJobsPerRun;
+        this.pauseNanos = pause.toNanos();
+
+        this.commentsCounter = meterRegistry.counter("todo.deletion.deleted", "table", "comments");
+        this.managersCounter = meterRegistry.counter("todo.deletion.deleted", "table", "managers");
+        this.todosCounter = meterRegistry.counter("todo.deletion.deleted", "table", "todos");
+    }
+
+    @Scheduled(fixedDelayString = "${todo.deletion.poll-interval:5s}")
+    public void run() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Long> todoIds = todoDeletionRepository.findUnfinishedTodoIds(PageRequest.of(0, maxJobsPerRun));
+            for (Long todoId : todoIds) {
+                try {
+                    delete(todoId);
+                } catch (RuntimeException e) {
+                    // 진행분은 커밋되어 있으므로 다음 실행에서 남은 행부터 이어간다
+                    log.error("todo 삭제 실패, 다음 실행에서 재시도: todoId={}", todoId, e);
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void delete(long todoId) {
+        jdbcTemplate.update(MARK_RUNNING_SQL, now(), todoId);
+
+        for (int attempt = 1; ; attempt++) {
+            long comments = deleteAll(DELETE_COMMENTS_SQL, COMMENTS_PROGRESS_SQL, todoId, commentsCounter);
+            long managers = deleteAll(DELETE_MANAGERS_SQL, MANAGERS_PROGRESS_SQL, todoId, managersCounter);
+            try {
+                int deleted = txTemplate.execute(status -> {
+                    int n = jdbcTemplate.update(DELETE_TODO_SQL, todoId);
+                    jdbcTemplate.update(MARK_DONE_SQL, now(), todoId);
+                    return n;
+                });
+                todosCounter.increment(deleted);
+                log.info("todo deleted: todoId={}, comments={}, managers={}", todoId, comments, managers);
+                break;
+            } catch (DataIntegrityViolationException e) {
+                // 청크를 지우는 사이 새 댓글/담당자가 들어온 경우: 남은 행을 다시 지운다
+                if (attempt >= MAX_FINAL_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+        // 작업을 잡은 이 노드의 캐시만 비운다. 다른 노드에 남은 todo/담당자 매핑은 만료되지 않지만, 그 노드의 이후
+        // 담당자 등록/삭제는 FK 위반(400) 또는 0건 DELETE 로 끝나므로 지워진 todo 에 쓰이지 않는다 (OwnershipIndex 참고)
+        ownershipIndex.invalidateTodo(todoId);
+        // 제목 색인은 단일 노드에서만 쓰므로 여기서 빼면 색인 수와 DB 행 수가 맞는다
+        titleIndex.remove(todoId);
+    }
+
+    // 0건이 될 때까지 청크 단위로 지우고 지운 행 수를 돌려준다
+    private long deleteAll(String deleteSql, String progressSql, long todoId, Counter counter) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = txTemplate.execute(status -> {
+                int n = jdbcTemplate.update(deleteSql, todoId, chunkSize);
+                if (n > 0) {
+                    jdbcTemplate.update(progressSql, n, now(), todoId);
+                }
+                return n;
+            });
+            counter.increment(deleted);
+            total += deleted;
+            if (deleted == chunkSize) {
+                pause();
+            }
+        } while (deleted > 0);
+        return total;
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+
+    private void pause() {
+        if (pauseNanos > 0) {
+            LockSupport.parkNanos(pauseNanos);
+        }
+    }
+}
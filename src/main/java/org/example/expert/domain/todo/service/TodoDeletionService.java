@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.ownership.OwnershipIndex;
+import org.example.expert.domain.todo.dto.response.TodoDeletionResponse;
+import org.example.expert.domain.todo.entity.TodoDeletion;
+import org.example.expert.domain.todo.repository.TodoDeletionRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * todo 삭제 요청 접수와 진행 상황 조회. 실제 삭제는 TodoDeletionJob 이 백그라운드에서 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoDeletionService {
+
+    private final TodoRepository todoRepository;
+    private final TodoDeletionRepository todoDeletionRepository;
+    private final OwnershipIndex ownershipIndex;
+
+    // 같은 todo 에 다시 요청하면 진행 중인 작업을 그대로 돌려준다
+    @Transactional
+    public TodoDeletionResponse requestDeletion(AuthUser authUser, long todoId) {
+        TodoDeletion existing = todoDeletionRepository.findById(todoId).orElse(null);
+        if (existing != null) {
+            if (!existing.getRequesterId().equals(authUser.getId())) {
+                throw new InvalidRequestException("일정을 만든 사용자만 삭제할 수 있습니다.");
+            }
+            return TodoDeletionResponse.from(existing);
+        }
+
+        long ownerId = ownershipIndex.ownerOf(todoId);
+        if (ownerId == OwnershipIndex.MISSING) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        if (ownerId != authUser.getId()) {
+            throw new InvalidRequestException("일정을 만든 사용자만 삭제할 수 있습니다.");
+        }
+
+        long commentsTotal = todoRepository.findCommentCountById(todoId).orElse(0L);
+        TodoDeletion deletion = todoDeletionRepository.saveAndFlush(new TodoDeletion(todoId, authUser.getId(), commentsTotal));
+        return TodoDeletionResponse.from(deletion);
+    }
+
+    public TodoDeletionResponse getDeletion(AuthUser authUser, long todoId) {
+        TodoDeletion deletion = todoDeletionRepository.findById(todoId)
+                .filter(d -> d.getRequesterId().equals(authUser.getId()))
+                .orElseThrow(() -> new InvalidRequestException("Todo deletion not found"));
+        return TodoDeletionResponse.from(deletion);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.ndjson.NdjsonWriter;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.enums.ExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 검색 조건에 맞는 todo 전체를 NDJSON/CSV 로 스트리밍한다.
+ * DB 커서 → 응답 스트림으로 한 행씩 흘려보내므로 결과 크기와 관계없이 힙 사용량이 일정하다.
+ */
+@Service
+public class TodoExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public StreamingResponseBody export(TodoSearchRequest req, ExportFormat format, boolean gzip) {
+        return out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                if (format == ExportFormat.CSV) {
+                    writeCsv(req, writer);
+                } else {
+                    writeNdjson(req, writer);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private void writeNdjson(TodoSearchRequest req, Writer writer) throws IOException {
+        try (NdjsonWriter ndjson = new NdjsonWriter(objectMapper, writer)) {
+            todoRepository.streamForExport(req, fetchSize, row -> {
+                try {
+                    ndjson.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void writeCsv(TodoSearchRequest req, Writer writer) throws IOException {
+        writer.write(TodoExportRow.CSV_HEADER);
+        writer.write('\n');
+        todoRepository.streamForExport(req, fetchSize, row -> {
+            try {
+                writer.write(String.valueOf(row.id()));
+                writer.write(',');
+                writeCsvField(writer, row.title());
+                writer.write(',');
+                writeCsvField(writer, row.contents());
+                writer.write(',');
+                writeCsvField(writer, row.weather());
+                writer.write(',');
+                writer.write(String.valueOf(row.userId()));
+                writer.write(',');
+                writer.write(String.valueOf(row.managerCount()));
+                writer.write(',');
+                writer.write(String.valueOf(row.commentCount()));
+                writer.write(',');
+                writer.write(String.valueOf(row.createdAt()));
+                writer.write(',');
+                writer.write(String.valueOf(row.modifiedAt()));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // RFC 4180: 구분자/따옴표/개행이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 쓴다
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
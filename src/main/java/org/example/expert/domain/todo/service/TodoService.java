@@ -3,21 +3,31 @@ package org.example.expert.domain.todo.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.enums.CountMode;
+import org.example.expert.domain.common.paging.PageCounter;
+import org.example.expert.domain.common.paging.SliceWithCount;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchItem;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -27,12 +37,17 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PageCounter pageCounter;
 
+    // 날씨 조회(외부 HTTP)가 DB 커넥션을 잡은 채 실행되지 않도록 트랜잭션 밖에서 조회하고,
+    // INSERT 는 repository.save 의 짧은 트랜잭션에서만 실행한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
@@ -45,6 +60,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        eventPublisher.publishEvent(new TodoSavedEvent(savedTodo.getId(), user.getId(), savedTodo.getTitle()));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -55,10 +71,37 @@ public class TodoService {
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size) {
+    /**
+     * 여러 todo 를 한 트랜잭션(saveAll)에서 저장한다. id 가 pooled 시퀀스이므로 todos / managers INSERT 가
+     * hibernate.jdbc.batch_size 단위의 JDBC 배치로 묶이고, 날씨 조회도 한 번만 한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TodoSaveResponse> saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+
+        String weather = weatherClient.getTodayWeather();
+
+        List<Todo> newTodos = todoBatchSaveRequest.getTodos().stream()
+                .map(request -> new Todo(request.getTitle(), request.getContents(), weather, user))
+                .toList();
+        List<Todo> savedTodos = todoRepository.saveAll(newTodos);
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail(), user.getNickname());
+        return savedTodos.stream()
+                .map(todo -> {
+                    eventPublisher.publishEvent(new TodoSavedEvent(todo.getId(), user.getId(), todo.getTitle()));
+                    return new TodoSaveResponse(todo.getId(), todo.getTitle(), todo.getContents(), weather, userResponse);
+                })
+                .toList();
+    }
+
+    public Slice<TodoResponse> getTodos(int page, int size, CountMode countMode) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        Slice<Todo> todos = countMode == CountMode.EXACT
+                ? pageCounter.exact(todoRepository.findAllByOrderByModifiedAtDesc(pageable))
+                : pageCounter.complete(countMode, todoRepository.findSliceByOrderByModifiedAtDesc(pageable),
+                        "todos", false, "todos", todoRepository::count);
 
         return todos.map(todo -> new TodoResponse(
                 todo.getId(),
@@ -71,6 +114,24 @@ public class TodoService {
         ));
     }
 
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        CursorResponse.validateSize(size);
+
+        List<TodoResponse> rows = todoRepository.findAllAfter(Cursor.decode(cursor), size + 1).stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail(), todo.getUser().getNickname()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList();
+
+        return CursorResponse.of(rows, size, todo -> new Cursor(todo.getModifiedAt(), todo.getId()));
+    }
+
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -88,11 +149,18 @@ public class TodoService {
         );
     }
 
-    public Page<TodoResponse> searchTodos(String weather, LocalDate start, LocalDate end, Pageable pageable){
+    public Slice<TodoResponse> searchTodos(String weather, LocalDate start, LocalDate end, Pageable pageable, CountMode countMode){
         LocalDateTime startDateTime = (start != null) ? start.atStartOfDay() : null;
         LocalDateTime endDateTime = (end != null) ? end.atTime(LocalTime.MAX) : null;
 
-        Page<Todo> todos = todoRepository.findByWeatherAndModifiedAtBetween(weather, startDateTime, endDateTime, pageable);
+        Slice<Todo> todos = countMode == CountMode.EXACT
+                ? pageCounter.exact(todoRepository.findByWeatherAndModifiedAtBetween(weather, startDateTime, endDateTime, pageable))
+                : pageCounter.complete(countMode,
+                        todoRepository.findSliceByWeatherAndModifiedAtBetween(weather, startDateTime, endDateTime, pageable),
+                        "todos",
+                        weather != null || start != null || end != null,
+                        "weather|" + weather + "|" + startDateTime + "|" + endDateTime,
+                        () -> todoRepository.countByWeatherAndModifiedAtBetween(weather, startDateTime, endDateTime));
         return todos.map(todo -> new TodoResponse(
                         todo.getId(),
                         todo.getTitle(),
@@ -104,7 +172,20 @@ public class TodoService {
                 ));
     }
 
-    public Page<TodoSearchItem> search(TodoSearchRequest req, Pageable  pageable){
-        return todoRepository.searchPage(req, pageable);
+    public Slice<TodoSearchItem> search(TodoSearchRequest req, Pageable  pageable, CountMode countMode){
+        if (countMode == CountMode.EXACT) {
+            return pageCounter.exact(todoRepository.searchPage(req, pageable));
+        }
+        // 닉네임/제목 색인 조회가 목록과 count 에서 두 번 돌지 않도록 repository 가 조건을 한 번만 만든다
+        SliceWithCount<TodoSearchItem> result = todoRepository.searchSlice(req, pageable);
+        return pageCounter.complete(countMode, result.slice(),
+                "todos", req.isFiltered(), "search|" + req.countKey(), result.count());
+    }
+
+    public CursorResponse<TodoSearchItem> searchByCursor(TodoSearchRequest req, String cursor, int size) {
+        CursorResponse.validateSize(size);
+
+        List<TodoSearchItem> rows = todoRepository.searchAfter(req, Cursor.decode(cursor), size + 1);
+        return CursorResponse.of(rows, size, item -> new Cursor(item.createdAt(), item.todoId()));
     }
 }
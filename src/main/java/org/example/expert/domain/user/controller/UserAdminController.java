@@ -1,6 +1,8 @@
 package org.example.expert.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.Audited;
+import org.example.expert.domain.log.enums.LogAction;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.service.UserAdminService;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -14,6 +16,7 @@ public class UserAdminController {
 
     private final UserAdminService userAdminService;
 
+    @Audited(action = LogAction.USER_ROLE_CHANGE, target = "userId")
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
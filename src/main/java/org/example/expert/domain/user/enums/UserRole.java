@@ -1,23 +1,32 @@
 package org.example.expert.domain.user.enums;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Arrays;
+import java.util.List;
 
 public enum UserRole {
     ADMIN("ROLE_ADMIN"),
     USER("ROLE_USER");
 
     private final String authority;
+    private final List<GrantedAuthority> authorities; // 요청마다 새로 만들지 않도록 역할별로 공유
 
     UserRole(String authority) {
         this.authority = authority;
+        this.authorities = List.of(new SimpleGrantedAuthority(authority));
     }
 
     public String getAuthority() {
         return authority;
     }
 
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
     public static UserRole of(String role) {
         return Arrays.stream(UserRole.values())
                 .filter(r -> r.name().equalsIgnoreCase(role))
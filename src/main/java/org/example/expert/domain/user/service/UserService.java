@@ -1,14 +1,18 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.password.PasswordHasher;
+import org.example.expert.domain.auth.refresh.RefreshTokenManager;
+import org.example.expert.domain.auth.revocation.TokenRevocationRegistry;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -16,29 +20,48 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RefreshTokenManager refreshTokenManager;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail(), user.getNickname());
     }
 
-    @Transactional
+    // bcrypt(확인 2번 + 새 해시 1번) 대기 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 해시하고,
+    // 비밀번호 저장과 토큰 폐기만 짧은 트랜잭션에서 함께 커밋한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
+        String currentHash = userRepository.findById(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"))
+                .getPassword();
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
+        if (passwordHasher.matches(userChangePasswordRequest.getNewPassword(), currentHash)) {
             throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(userChangePasswordRequest.getOldPassword(), currentHash)) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String newHash = passwordHasher.encode(userChangePasswordRequest.getNewPassword());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new InvalidRequestException("User not found"));
+            // 해시하는 사이 다른 요청이 비밀번호를 바꿨다면 확인한 기존 비밀번호가 더 이상 맞지 않는다
+            if (!user.getPassword().equals(currentHash)) {
+                throw new InvalidRequestException("비밀번호가 그 사이 변경되었습니다. 다시 시도해 주세요.");
+            }
+            user.changePassword(newHash);
+            // 비밀번호 변경 전에 발급된 access/refresh 토큰은 모두 폐기
+            tokenRevocationRegistry.revokeAllForUser(user.getId());
+            refreshTokenManager.revokeAllForUser(user.getId());
+        });
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
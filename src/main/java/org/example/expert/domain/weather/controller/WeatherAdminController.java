@@ -0,0 +1,33 @@
+package org.example.expert.domain.weather.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.client.dto.WeatherStatusResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class WeatherAdminController {
+
+    private final WeatherClient weatherClient;
+
+    @GetMapping("/admin/weather")
+    public ResponseEntity<WeatherStatusResponse> getStatus() {
+        return ResponseEntity.ok(weatherClient.status());
+    }
+
+    // source=remote: f-api 에서 다시 받아 파일에 저장, source=file: 로컬 파일을 다시 읽음
+    @PostMapping("/admin/weather/reload")
+    public ResponseEntity<WeatherStatusResponse> reload(@RequestParam(defaultValue = "remote") String source) {
+        return switch (source) {
+            case "remote" -> ResponseEntity.ok(weatherClient.reloadFromRemote());
+            case "file" -> ResponseEntity.ok(weatherClient.reloadFromFile());
+            default -> throw new InvalidRequestException("source 는 remote 또는 file 이어야 합니다.");
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JwtAuthenticationToken;
+import org.example.expert.domain.common.annotation.Audited;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.log.enums.LogAction;
+import org.example.expert.domain.log.enums.LogStatus;
+import org.example.expert.domain.log.service.LogService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AuditedAspectTest {
+
+    static class Target {
+        @Audited(action = LogAction.USER_ROLE_CHANGE, target = "userId")
+        public void change(long userId, boolean fail) {
+            if (fail) {
+                throw new IllegalStateException("boom");
+            }
+        }
+    }
+
+    private final LogService logService = mock(LogService.class);
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new JwtAuthenticationToken(new AuthUser(7L, "a@a.com", UserRole.ADMIN, "admin")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Target proxy(double rate) {
+        MockEnvironment environment = new MockEnvironment().withProperty("audit.sampling.USER_ROLE_CHANGE", String.valueOf(rate));
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Target());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AuditedAspect(logService, new SimpleMeterRegistry(), environment, 1.0));
+        return factory.getProxy();
+    }
+
+    @Test
+    void 요청자와_대상_결과를_기록한다() {
+        proxy(1.0).change(42L, false);
+
+        verify(logService).write(eq(LogAction.USER_ROLE_CHANGE), eq(LogStatus.SUCCESS), eq(7L), eq(42L),
+                eq("Target.change"), anyString());
+    }
+
+    @Test
+    void 샘플링에서_빠져도_실패는_기록한다() {
+        Target target = proxy(0.0);
+
+        target.change(42L, false);
+        verify(logService, never()).write(any(), any(), any(), any(), any(), any());
+
+        assertThatThrownBy(() -> target.change(42L, true)).isInstanceOf(IllegalStateException.class);
+        verify(logService).write(eq(LogAction.USER_ROLE_CHANGE), eq(LogStatus.FAIL), eq(7L), eq(42L),
+                eq("IllegalStateException: boom"), anyString());
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile long delayMillis;
+    private volatile int status = 200;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/f-api/weather.json", exchange -> {
+            hits.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+            byte[] body = ("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop(0);
+    }
+
+    private WeatherClient client(Duration readTimeout, int failureThreshold) {
+        return new WeatherClient(
+                new RestTemplateBuilder(),
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                Duration.ofHours(6),
+                Duration.ofMillis(500),
+                readTimeout,
+                "Unknown",
+                failureThreshold,
+                Duration.ofMinutes(1),
+                new WeatherStore(tempDir.resolve("weather.tsv").toString())
+        );
+    }
+
+    @Test
+    void 오늘_날씨를_한번만_받아와_캐시한다() {
+        WeatherClient weatherClient = client(Duration.ofSeconds(2), 3);
+
+        assertThat(weatherClient.getTodayWeather()).isEqualTo("Sunny");
+        assertThat(weatherClient.getTodayWeather()).isEqualTo("Sunny");
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void upstream_이_느리면_타임아웃_후_기본값을_반환한다() {
+        delayMillis = 3_000;
+        WeatherClient weatherClient = client(Duration.ofMillis(200), 3);
+
+        long start = System.nanoTime();
+        String weather = weatherClient.getTodayWeather();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(weather).isEqualTo("Unknown");
+        assertThat(elapsedMillis).isLessThan(2_000);
+    }
+
+    @Test
+    void 연속_실패하면_서킷이_열려_upstream_을_호출하지_않는다() {
+        status = 500;
+        WeatherClient weatherClient = client(Duration.ofSeconds(2), 1);
+
+        assertThat(weatherClient.getTodayWeather()).isEqualTo("Unknown");
+        assertThat(weatherClient.getTodayWeather()).isEqualTo("Unknown");
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시에_캐시가_비어있어도_upstream_호출은_한번이다() throws Exception {
+        delayMillis = 300;
+        WeatherClient weatherClient = client(Duration.ofSeconds(2), 3);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(weatherClient::getTodayWeather));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("Sunny");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 받아온_날씨를_파일에_저장해_외부망_없이도_기동_후_사용한다() {
+        assertThat(client(Duration.ofSeconds(2), 3).getTodayWeather()).isEqualTo("Sunny");
+
+        // upstream 이 죽은 상태로 재기동
+        status = 500;
+        WeatherClient restarted = client(Duration.ofSeconds(2), 3);
+
+        assertThat(restarted.getTodayWeather()).isEqualTo("Sunny");
+        assertThat(restarted.status().source()).isEqualTo(WeatherSnapshot.SOURCE_FILE);
+        assertThat(hits.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER, "nick");
+
+    private VerifiedToken verified(long expiresAtMillis) {
+        return new VerifiedToken(authUser, "jti", 0L, expiresAtMillis);
+    }
+
+    @Test
+    void exp_이전에는_캐시된_토큰을_반환하고_이후에는_비운다() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), true, 100, 4);
+        cache.put("token", verified(1_000L));
+
+        assertThat(cache.get("token", 999L).authUser()).isSameAs(authUser);
+        assertThat(cache.get("token", 1_000L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 용량을_넘으면_가장_오래_쓰지_않은_토큰을_내보낸다() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), true, 2, 1);
+        cache.put("t1", verified(Long.MAX_VALUE));
+        cache.put("t2", verified(Long.MAX_VALUE));
+        cache.get("t1", 0L);
+        cache.put("t3", verified(Long.MAX_VALUE));
+
+        assertThat(cache.get("t1", 0L)).isNotNull();
+        assertThat(cache.get("t2", 0L)).isNull();
+        assertThat(cache.get("t3", 0L)).isNotNull();
+    }
+
+    @Test
+    void ASCII_밖의_문자만_다른_토큰도_서로_다른_키로_본다() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), true, 100, 4);
+        cache.put("token-가", verified(Long.MAX_VALUE));
+
+        assertThat(cache.get("token-나", 0L)).isNull();
+        assertThat(cache.get("token-가", 0L)).isNotNull();
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.auth.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    private static final long WINDOW = 60_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LoginRateLimiter limiter(int perEmail, int perIp) {
+        return new LoginRateLimiter(meterRegistry, Duration.ofMillis(WINDOW), perEmail, perIp, 1_000, 4);
+    }
+
+    @Test
+    void 이메일별_한도를_넘으면_429_를_던지고_대소문자는_같은_이메일로_본다() {
+        LoginRateLimiter limiter = limiter(2, 100);
+        limiter.acquire("a@a.com", "10.0.0.1");
+        limiter.acquire("A@A.COM", "10.0.0.2");
+
+        assertThatThrownBy(() -> limiter.acquire("a@A.com", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.acquire("b@a.com", "10.0.0.3")).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("auth.rate.limited", "key", "email").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void IP별_한도는_이메일과_무관하게_적용된다() {
+        LoginRateLimiter limiter = limiter(100, 2);
+        limiter.acquire("a@a.com", "10.0.0.1");
+        limiter.acquire("b@a.com", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.acquire("c@a.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.acquire("c@a.com", "10.0.0.2")).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("auth.rate.limited", "key", "ip").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 직전_구간의_시도는_경과_비율만큼_줄어든_가중치로_남는다() {
+        LoginRateLimiter limiter = limiter(100, 100);
+        long start = 10 * WINDOW;
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire("k", 4, start)).isTrue();
+        }
+        assertThat(limiter.tryAcquire("k", 4, start + WINDOW - 1)).isFalse();
+
+        // 다음 구간의 절반 지점: 직전 4건 * 0.5 = 2 → 2건 더 허용
+        long half = start + WINDOW + WINDOW / 2;
+        assertThat(limiter.tryAcquire("k", 4, half)).isTrue();
+        assertThat(limiter.tryAcquire("k", 4, half)).isTrue();
+        assertThat(limiter.tryAcquire("k", 4, half)).isFalse();
+
+        // 두 구간 이상 지나면 모두 비운다
+        assertThat(limiter.tryAcquire("k", 1, start + 3 * WINDOW)).isTrue();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.expert.domain.auth.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private PasswordHasher hasher;
+
+    // release 전까지 해시를 끝내지 않는 encoder
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hasher.shutdown();
+    }
+
+    @Test
+    void 풀과_큐가_가득_차면_바로_503_으로_거절한다() throws Exception {
+        hasher = new PasswordHasher(blockingEncoder, meterRegistry, 1, 1, Duration.ofSeconds(10));
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> hasher.encode("c")).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("auth.password.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:b");
+    }
+
+    @Test
+    void 대기_시간을_넘기면_503_으로_거절한다() {
+        hasher = new PasswordHasher(blockingEncoder, meterRegistry, 1, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> hasher.encode("a")).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("auth.password.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 여유가_있으면_encoder_결과를_그대로_돌려준다() {
+        release.countDown();
+        hasher = new PasswordHasher(blockingEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+        assertThat(hasher.encode("pw")).isEqualTo("hashed:pw");
+        assertThat(hasher.matches("pw", "hashed:pw")).isTrue();
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() < depth) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.expert.domain.auth.refresh;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// AuthException 은 GlobalExceptionHandler 에서 401 로 응답한다
+@RepositoryTest
+class RefreshTokenManagerTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RefreshTokenManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = newNode();
+    }
+
+    @Test
+    void 한_번_쓴_토큰을_다시_쓰면_401() {
+        String token = manager.issue(7L);
+
+        assertThat(manager.consume(token)).isEqualTo(7L);
+        assertThatThrownBy(() -> manager.consume(token)).isInstanceOf(AuthException.class);
+        assertThat(meterRegistry.counter("auth.refresh", "result", "rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 다른_노드에서_이미_쓴_토큰도_401() {
+        String token = manager.issue(7L);
+        RefreshTokenManager otherNode = newNode();
+
+        assertThat(otherNode.consume(token)).isEqualTo(7L);
+        // 이 노드의 메모리에는 아직 남아 있지만 DB 의 DELETE 가 0건이므로 거절한다
+        assertThatThrownBy(() -> manager.consume(token)).isInstanceOf(AuthException.class);
+    }
+
+    @Test
+    void secret_이_다르면_401_이고_원래_토큰은_그대로_쓸_수_있다() {
+        String token = manager.issue(7L);
+        byte[] raw = Base64.getUrlDecoder().decode(token);
+        raw[raw.length - 1] ^= 1;
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+
+        assertThatThrownBy(() -> manager.consume(forged)).isInstanceOf(AuthException.class);
+        assertThat(manager.consume(token)).isEqualTo(7L);
+    }
+
+    @Test
+    void 형식이_잘못된_토큰은_401() {
+        assertThatThrownBy(() -> manager.consume("not-a-token")).isInstanceOf(AuthException.class);
+        assertThatThrownBy(() -> manager.consume("%%%")).isInstanceOf(AuthException.class);
+    }
+
+    @Test
+    void 사용자_단위_폐기_후에는_401() {
+        String token = manager.issue(7L);
+        String other = manager.issue(8L);
+
+        manager.revokeAllForUser(7L);
+
+        assertThatThrownBy(() -> manager.consume(token)).isInstanceOf(AuthException.class);
+        assertThat(manager.consume(other)).isEqualTo(8L);
+    }
+
+    private RefreshTokenManager newNode() {
+        RefreshTokenManager node = new RefreshTokenManager(refreshTokenRepository, meterRegistry, Duration.ofDays(1), 4);
+        node.load();
+        return node;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.expert.domain.auth.refresh;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenStoreTest {
+
+    private static RefreshTokenStore.Entry entry(long userId) {
+        return new RefreshTokenStore.Entry(userId, new byte[32], Long.MAX_VALUE);
+    }
+
+    @Test
+    void 넣고_덮어쓰고_지운다() {
+        RefreshTokenStore store = new RefreshTokenStore(4);
+        store.put(1L, entry(10L));
+        store.put(1L, entry(11L));
+
+        assertThat(store.get(1L).userId()).isEqualTo(11L);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.remove(1L).userId()).isEqualTo(11L);
+        assertThat(store.get(1L)).isNull();
+        assertThat(store.remove(1L)).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void 삭제가_이어져도_배열_끝을_넘어간_탐색_경로의_키를_잃지_않는다() {
+        // stripe 하나 + 작은 배열에서 넣고 지우기를 반복하면 배열 끝에서 앞으로 넘어가는 클러스터가 계속 생긴다
+        RefreshTokenStore store = new RefreshTokenStore(1);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int op = 0; op < 20_000; op++) {
+            long id = 1 + random.nextInt(64);
+            if (random.nextInt(3) == 0) {
+                Long removed = expected.remove(id);
+                RefreshTokenStore.Entry actual = store.remove(id);
+                assertThat(actual == null ? null : actual.userId()).isEqualTo(removed);
+            } else {
+                expected.put(id, (long) op);
+                store.put(id, entry(op));
+            }
+            if (op % 97 == 0) {
+                assertSameContents(store, expected);
+            }
+        }
+        assertSameContents(store, expected);
+    }
+
+    @Test
+    void removeIf_는_당겨진_키도_빠짐없이_검사한다() {
+        RefreshTokenStore store = new RefreshTokenStore(1);
+        for (long id = 1; id <= 1_000; id++) {
+            store.put(id, entry(id % 3));
+        }
+
+        int removed = store.removeIf((id, e) -> e.userId() == 0L);
+
+        assertThat(removed).isEqualTo(333);
+        assertThat(store.size()).isEqualTo(667);
+        for (long id = 1; id <= 1_000; id++) {
+            if (id % 3 == 0) {
+                assertThat(store.get(id)).isNull();
+            } else {
+                assertThat(store.get(id).userId()).isEqualTo(id % 3);
+            }
+        }
+    }
+
+    private static void assertSameContents(RefreshTokenStore store, Map<Long, Long> expected) {
+        assertThat(store.size()).isEqualTo(expected.size());
+        List<Long> missing = new ArrayList<>();
+        for (long id = 1; id <= 64; id++) {
+            RefreshTokenStore.Entry actual = store.get(id);
+            Long want = expected.get(id);
+            if (want == null ? actual != null : actual == null || actual.userId() != want) {
+                missing.add(id);
+            }
+        }
+        assertThat(missing).isEmpty();
+    }
+}
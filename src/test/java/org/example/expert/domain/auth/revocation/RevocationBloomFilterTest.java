@@ -0,0 +1,47 @@
+package org.example.expert.domain.auth.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationBloomFilterTest {
+
+    @Test
+    void 넣은_키는_항상_있다고_답한다() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(1_000, 0.01);
+        for (long userId = 1; userId <= 1_000; userId++) {
+            filter.put(RevocationBloomFilter.userKey(userId));
+            filter.put(RevocationBloomFilter.jtiKey("jti-" + userId));
+        }
+
+        for (long userId = 1; userId <= 1_000; userId++) {
+            assertThat(filter.mightContain(RevocationBloomFilter.userKey(userId))).isTrue();
+            assertThat(filter.mightContain(RevocationBloomFilter.jtiKey("jti-" + userId))).isTrue();
+        }
+    }
+
+    @Test
+    void 예상_건수까지는_오탐률이_목표_근처에_머문다() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(1_000, 0.01);
+        for (long userId = 1; userId <= 1_000; userId++) {
+            filter.put(RevocationBloomFilter.userKey(userId));
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long userId = 1_000_001; userId <= 1_000_000 + probes; userId++) {
+            if (filter.mightContain(RevocationBloomFilter.userKey(userId))) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / probes).isLessThan(0.03);
+    }
+
+    @Test
+    void 비어_있으면_아무것도_없다고_답한다() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10, 0.01);
+
+        assertThat(filter.mightContain(RevocationBloomFilter.userKey(1L))).isFalse();
+        assertThat(filter.mightContain(RevocationBloomFilter.jtiKey("jti"))).isFalse();
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.expert.domain.auth.revocation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.VerifiedToken;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationRegistryTest {
+
+    private static final long USER_ID = 1L;
+
+    private final TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final AtomicLong ids = new AtomicLong();
+
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        when(jwtUtil.getAccessTokenTtlMillis()).thenReturn(900_000L);
+        when(repository.save(any(TokenRevocation.class))).thenAnswer(invocation -> {
+            TokenRevocation revocation = invocation.getArgument(0);
+            ReflectionTestUtils.setField(revocation, "id", ids.incrementAndGet());
+            return revocation;
+        });
+        when(repository.findActiveAfter(anyLong(), any(), any())).thenReturn(List.of());
+        registry = new TokenRevocationRegistry(repository, jwtUtil, new SimpleMeterRegistry(), 1_000, 0.01, 100);
+    }
+
+    @Test
+    void 사용자_단위_폐기는_폐기_시각보다_먼저_발급된_토큰만_막는다() {
+        registry.revokeAllForUser(USER_ID);
+        long cutoff = lastCutoffMillis();
+
+        assertThat(registry.isRevoked(token(USER_ID, "a", cutoff - 1))).isTrue();
+        // 같은 초, 같은 밀리초에 새로 발급된 토큰은 살아남는다
+        assertThat(registry.isRevoked(token(USER_ID, "b", cutoff))).isFalse();
+        assertThat(registry.isRevoked(token(USER_ID, "c", cutoff + 1))).isFalse();
+        assertThat(registry.isRevoked(token(2L, "d", cutoff - 1))).isFalse();
+    }
+
+    @Test
+    void 폐기_시각은_밀리초_단위로_저장된다() {
+        registry.revokeAllForUser(USER_ID);
+
+        TokenRevocation saved = lastSaved();
+        assertThat(saved.getIssuedBefore().getNano() % 1_000_000).isZero();
+        assertThat(saved.getExpiresAt()).isEqualTo(saved.getIssuedBefore().plusSeconds(900));
+    }
+
+    @Test
+    void 토큰_단위_폐기는_해당_jti_만_막는다() {
+        registry.revokeToken("revoked", USER_ID, System.currentTimeMillis() + 60_000);
+
+        assertThat(registry.isRevoked(token(USER_ID, "revoked", 0L))).isTrue();
+        assertThat(registry.isRevoked(token(USER_ID, "other", 0L))).isFalse();
+    }
+
+    @Test
+    void 다른_노드가_추가한_기록은_poll_로_반영한다() {
+        TokenRevocation remote = TokenRevocation.ofUser(USER_ID,
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0, 500_000_000), LocalDateTime.now().plusMinutes(15));
+        ReflectionTestUtils.setField(remote, "id", 42L);
+        when(repository.findActiveAfter(anyLong(), any(), any())).thenReturn(List.of(remote));
+
+        registry.poll();
+
+        long cutoff = toMillis(remote.getIssuedBefore());
+        assertThat(registry.isRevoked(token(USER_ID, "a", cutoff - 1))).isTrue();
+        assertThat(registry.isRevoked(token(USER_ID, "b", cutoff))).isFalse();
+    }
+
+    @Test
+    void 만료된_기록은_purge_후_더_이상_막지_않는다() {
+        registry.revokeToken("expired", USER_ID, System.currentTimeMillis() - 1_000);
+        assertThat(registry.isRevoked(token(USER_ID, "expired", 0L))).isTrue();
+
+        registry.purgeExpired();
+
+        assertThat(registry.size()).isZero();
+        assertThat(registry.isRevoked(token(USER_ID, "expired", 0L))).isFalse();
+    }
+
+    private VerifiedToken token(long userId, String jti, long issuedAtMillis) {
+        return new VerifiedToken(new AuthUser(userId, "a@a.com", UserRole.USER, "nick"), jti, issuedAtMillis, Long.MAX_VALUE);
+    }
+
+    private TokenRevocation lastSaved() {
+        ArgumentCaptor<TokenRevocation> captor = ArgumentCaptor.forClass(TokenRevocation.class);
+        verify(repository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private long lastCutoffMillis() {
+        return toMillis(lastSaved().getIssuedBefore());
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.expert.domain.comment.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.common.journal.AppendOnlyJournal;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// writer 스레드가 별도 커넥션으로 저장하므로 데이터를 실제로 커밋한다
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentIngestQueueTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path journalDir;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CommentIngestQueue queue;
+    private AuthUser authUser;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("ingest@example.com", "pw", UserRole.USER, "writer"));
+        todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER, user.getNickname());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (queue != null) {
+            queue.stop();
+        }
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void writer_가_막혀_큐가_차면_기다리지_않고_429() throws Exception {
+        queue = newQueue(1, 1, 1);
+        queue.start();
+
+        // todo 행을 잠가 writer 가 첫 배치의 comment_count UPDATE 에서 멈추게 한다
+        TransactionTemplate lockHolder = new TransactionTemplate(transactionManager);
+        lockHolder.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE todos SET comment_count = comment_count WHERE id = ?", todo.getId());
+
+            queue.accept(authUser, todo.getId(), new CommentSaveRequest("c1"));
+            awaitQueueDepth(0);
+            queue.accept(authUser, todo.getId(), new CommentSaveRequest("c2"));
+
+            assertThatThrownBy(() -> queue.accept(authUser, todo.getId(), new CommentSaveRequest("c3")))
+                    .isInstanceOf(TooManyRequestsException.class);
+            assertThat(meterRegistry.counter("comment.ingest", "result", "throttled").count()).isEqualTo(1.0);
+        });
+
+        queue.stop();
+        assertThat(contentsOf(todo.getId())).containsExactly("c1", "c2");
+        assertThat(commentCount(todo.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void 배치로_저장하며_comment_count_를_올리고_없는_todo_의_댓글은_버린다() throws Exception {
+        queue = newQueue(2, 100, 50);
+        queue.start();
+
+        queue.accept(authUser, todo.getId(), new CommentSaveRequest("a"));
+        queue.accept(authUser, todo.getId(), new CommentSaveRequest("b"));
+        queue.accept(authUser, todo.getId() + 1000, new CommentSaveRequest("lost"));
+        queue.accept(authUser, todo.getId(), new CommentSaveRequest("c"));
+        queue.stop();
+
+        assertThat(contentsOf(todo.getId())).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(commentCount(todo.getId())).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments", Long.class)).isEqualTo(3L);
+        assertThat(meterRegistry.counter("comment.ingest.dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 기동_시_저널에_남은_댓글과_줄어든_shard_의_저널을_다시_저장한다() throws Exception {
+        writeJournal(journalDir.resolve("shard-0.journal"), "r1", "r2");
+        writeJournal(journalDir.resolve("shard-3.journal"), "orphan");
+
+        queue = newQueue(1, 100, 50);
+        queue.start();
+        queue.stop();
+
+        assertThat(contentsOf(todo.getId())).containsExactlyInAnyOrder("r1", "r2", "orphan");
+        assertThat(commentCount(todo.getId())).isEqualTo(3);
+        assertThat(Files.size(journalDir.resolve("shard-0.journal"))).isZero();
+        assertThat(journalDir.resolve("shard-3.journal")).doesNotExist();
+    }
+
+    @Test
+    void commit_직전에_죽어_다시_처리하는_댓글은_중복_저장하지_않고_comment_count_도_한_번만_올린다() throws Exception {
+        Path path = journalDir.resolve("shard-0.journal");
+        writeJournal(path, "once");
+        queue = newQueue(1, 100, 50);
+        queue.start();
+        queue.stop();
+        assertThat(commentCount(todo.getId())).isEqualTo(1);
+
+        // DB 에는 반영됐지만 저널 commit 을 남기기 전에 죽은 상태를 재현한다
+        writeJournal(path, "once", "new");
+
+        queue = newQueue(1, 100, 50);
+        queue.start();
+        queue.stop();
+
+        assertThat(contentsOf(todo.getId())).containsExactly("once", "new");
+        assertThat(commentCount(todo.getId())).isEqualTo(2);
+        assertThat(meterRegistry.counter("comment.ingest.dropped").count()).isZero();
+    }
+
+    private CommentIngestQueue newQueue(int shards, int queueCapacity, int batchSize) {
+        return new CommentIngestQueue(todoRepository, jdbcTemplate, transactionManager, objectMapper, meterRegistry,
+                "queued", shards, queueCapacity, batchSize, Duration.ofMillis(10), journalDir.toString(), false);
+    }
+
+    private void writeJournal(Path path, String... contents) throws Exception {
+        try (AppendOnlyJournal<PendingComment> journal =
+                     new AppendOnlyJournal<>(path, PendingComment.class, objectMapper, false)) {
+            journal.recover();
+            for (String c : contents) {
+                journal.append(new PendingComment(0L, c + "-id", todo.getId(), authUser.getId(), c,
+                        LocalDateTime.of(2024, 1, 1, 0, 0)));
+            }
+        }
+    }
+
+    private void awaitQueueDepth(double depth) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (meterRegistry.get("comment.ingest.queue.depth").gauge().value() != depth) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+    }
+
+    private List<String> contentsOf(long todoId) {
+        return jdbcTemplate.queryForList("SELECT contents FROM comments WHERE todo_id = ? ORDER BY id", String.class, todoId);
+    }
+
+    private long commentCount(long todoId) {
+        return jdbcTemplate.queryForObject("SELECT comment_count FROM todos WHERE id = ?", Long.class, todoId);
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTest
+class CommentRepositoryPagingTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("comment@example.com", "pw", UserRole.USER, "writer"));
+        todo = todoRepository.saveAndFlush(new Todo("title", "contents", "sunny", user));
+    }
+
+    @Test
+    void 같은_시각의_댓글도_id_로_이어서_빠짐없이_한_번씩_읽는다() {
+        // 같은 created_at 이 페이지 경계에 걸치도록 시각을 겹친다
+        List<Long> expected = new ArrayList<>();
+        expected.add(insert("c1", T0));
+        expected.add(insert("c2", T0.plusSeconds(1)));
+        expected.add(insert("c3", T0.plusSeconds(1)));
+        expected.add(insert("c4", T0.plusSeconds(1)));
+        expected.add(insert("c5", T0.plusSeconds(2)));
+
+        List<Long> read = new ArrayList<>();
+        Cursor cursor = null;
+        int pages = 0;
+        while (true) {
+            CursorResponse<CommentResponse> page = CursorResponse.of(
+                    commentRepository.findPageAfter(todo.getId(), cursor, 2 + 1), 2,
+                    c -> new Cursor(c.getCreatedAt(), c.getId()));
+            page.content().forEach(c -> read.add(c.getId()));
+            pages++;
+            if (!page.hasNext()) {
+                break;
+            }
+            cursor = Cursor.decode(page.nextCursor());
+        }
+
+        assertThat(read).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void 다른_todo_의_댓글은_섞이지_않고_작성자_정보를_함께_담는다() {
+        Todo other = todoRepository.saveAndFlush(new Todo("other", "contents", "sunny", user));
+        long mine = insert("mine", T0);
+        insertFor(other.getId(), "theirs", T0);
+
+        List<CommentResponse> rows = commentRepository.findPageAfter(todo.getId(), null, 10);
+
+        assertThat(rows).extracting(CommentResponse::getId).containsExactly(mine);
+        assertThat(rows.get(0).getUser().getNickname()).isEqualTo("writer");
+        assertThat(rows.get(0).getCreatedAt()).isEqualTo(T0);
+    }
+
+    private long insert(String contents, LocalDateTime at) {
+        return insertFor(todo.getId(), contents, at);
+    }
+
+    private long insertFor(long todoId, String contents, LocalDateTime at) {
+        jdbcTemplate.update(
+                "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)",
+                contents, user.getId(), todoId, Timestamp.valueOf(at), Timestamp.valueOf(at));
+        return jdbcTemplate.queryForObject("SELECT max(id) FROM comments", Long.class);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스트리밍은 StatelessSession 이 별도 커넥션으로 읽으므로 데이터를 실제로 커밋한다
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentStreamServiceTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private CommentStreamService streamService;
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new CommentStreamService(commentRepository, objectMapper, 2);
+        user = userRepository.save(new User("stream@example.com", "pw", UserRole.USER, "streamer"));
+        todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void 모든_댓글을_createdAt_id_순으로_한_줄씩_쓰고_마지막_줄도_개행으로_끝낸다() throws Exception {
+        LocalDateTime t0 = LocalDateTime.of(2024, 1, 1, 9, 0);
+        insert("late", t0.plusMinutes(1));
+        insert("first", t0);
+        insert("second", t0);
+
+        String body = stream(todo.getId());
+
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("contents").asText()).isEqualTo("first");
+        assertThat(first.get("user").get("nickname").asText()).isEqualTo("streamer");
+        assertThat(objectMapper.readTree(lines[1]).get("contents").asText()).isEqualTo("second");
+        assertThat(objectMapper.readTree(lines[2]).get("contents").asText()).isEqualTo("late");
+    }
+
+    @Test
+    void 댓글이_없으면_빈_본문을_쓴다() throws Exception {
+        assertThat(stream(todo.getId())).isEmpty();
+    }
+
+    private void insert(String contents, LocalDateTime at) {
+        jdbcTemplate.update(
+                "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)",
+                contents, user.getId(), todo.getId(), Timestamp.valueOf(at), Timestamp.valueOf(at));
+    }
+
+    private String stream(long todoId) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamService.stream(todoId).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.expert.domain.common.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppendOnlyJournalTest {
+
+    record Line(long seq, String value) implements JournalEntry<Line> {
+
+        @Override
+        public Line withSeq(long seq) {
+            return new Line(seq, value);
+        }
+    }
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @TempDir
+    Path dir;
+
+    private AppendOnlyJournal<Line> open(Path path) {
+        return new AppendOnlyJournal<>(path, Line.class, objectMapper, false);
+    }
+
+    @Test
+    void 부분_commit_이후의_레코드만_복구하고_seq_를_이어서_부여한다() throws Exception {
+        Path path = dir.resolve("test.journal");
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            journal.recover();
+            for (long i = 1; i <= 5; i++) {
+                assertThat(journal.append(new Line(0L, "v" + i)).seq()).isEqualTo(i);
+            }
+            journal.commit(2);
+            journal.commit(3);
+        }
+
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            assertThat(journal.recover()).extracting(Line::seq).containsExactly(4L, 5L);
+            assertThat(journal.recover()).extracting(Line::value).containsExactly("v4", "v5");
+            assertThat(journal.lastSeq()).isEqualTo(5);
+            assertThat(journal.append(new Line(0L, "v6")).seq()).isEqualTo(6);
+        }
+    }
+
+    @Test
+    void 쓰다_만_마지막_줄은_건너뛴다() throws Exception {
+        Path path = dir.resolve("test.journal");
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            journal.recover();
+            journal.append(new Line(0L, "a"));
+            journal.append(new Line(0L, "b"));
+        }
+        Files.writeString(path, "{\"seq\":3,\"val", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            assertThat(journal.recover()).extracting(Line::seq).containsExactly(1L, 2L);
+            assertThat(journal.lastSeq()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void 모두_commit_하면_파일을_비우고_이전_commit_보다_작은_seq_는_무시한다() throws Exception {
+        Path path = dir.resolve("test.journal");
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            journal.recover();
+            journal.append(new Line(0L, "a"));
+            journal.append(new Line(0L, "b"));
+            journal.commit(1);
+            long sizeAfterCommit = Files.size(path);
+            journal.commit(1);
+            assertThat(Files.size(path)).isEqualTo(sizeAfterCommit);
+
+            journal.commit(2);
+            assertThat(Files.size(path)).isZero();
+        }
+
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            assertThat(journal.recover()).isEmpty();
+        }
+    }
+
+    @Test
+    void 모두_commit_된_뒤_쓰다_만_줄이_남아도_다음_레코드는_온전히_복구된다() throws Exception {
+        Path path = dir.resolve("test.journal");
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            journal.recover();
+            journal.append(new Line(0L, "a"));
+            journal.commit(1);
+        }
+        // 모두 commit 되어 파일이 비워진 뒤 다음 레코드를 쓰다 죽은 상태
+        Files.writeString(path, "{\"seq\":2,\"value\":\"b", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            assertThat(journal.recover()).isEmpty();
+            journal.append(new Line(0L, "after-restart"));
+        }
+
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            assertThat(journal.recover()).extracting(Line::value).containsExactly("after-restart");
+        }
+    }
+
+    @Test
+    void 남은_레코드_사이에_끊긴_줄이_있어도_이후_레코드와_commit_을_읽는다() throws Exception {
+        Path path = dir.resolve("test.journal");
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            journal.recover();
+            journal.append(new Line(0L, "a"));
+        }
+        Files.writeString(path, "{\"seq\":2,\"val", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            assertThat(journal.recover()).extracting(Line::value).containsExactly("a");
+            journal.append(new Line(0L, "b"));
+            journal.append(new Line(0L, "c"));
+            journal.commit(2);
+        }
+
+        try (AppendOnlyJournal<Line> journal = open(path)) {
+            assertThat(journal.recover()).extracting(Line::value).containsExactly("c");
+        }
+    }
+}
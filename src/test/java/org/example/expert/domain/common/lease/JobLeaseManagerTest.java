@@ -0,0 +1,65 @@
+package org.example.expert.domain.common.lease;
+
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTest
+class JobLeaseManagerTest {
+
+    private static final String JOB = "job";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 인스턴스마다 owner 가 다르므로 노드 두 개로 본다
+    private JobLeaseManager nodeA;
+    private JobLeaseManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new JobLeaseManager(jdbcTemplate);
+        nodeB = new JobLeaseManager(jdbcTemplate);
+    }
+
+    @Test
+    void 한_노드가_잡고_있으면_다른_노드는_잡지도_갱신하지도_못한다() {
+        assertThat(nodeA.tryAcquire(JOB, TTL)).isTrue();
+
+        assertThat(nodeB.tryAcquire(JOB, TTL)).isFalse();
+        assertThat(nodeB.renew(JOB, TTL)).isFalse();
+        assertThat(nodeA.renew(JOB, TTL)).isTrue();
+        // 이미 내 것이면 다시 잡아도 성공
+        assertThat(nodeA.tryAcquire(JOB, TTL)).isTrue();
+    }
+
+    @Test
+    void 풀면_다른_노드가_바로_가져가고_원래_노드의_갱신은_실패한다() {
+        nodeA.tryAcquire(JOB, TTL);
+        nodeA.release(JOB);
+
+        assertThat(nodeB.tryAcquire(JOB, TTL)).isTrue();
+        assertThat(nodeA.renew(JOB, TTL)).isFalse();
+    }
+
+    @Test
+    void 만료된_lease_는_다른_노드가_가져간다() {
+        nodeA.tryAcquire(JOB, Duration.ofSeconds(-1));
+
+        assertThat(nodeB.tryAcquire(JOB, TTL)).isTrue();
+        assertThat(nodeA.tryAcquire(JOB, TTL)).isFalse();
+    }
+
+    @Test
+    void 이름이_다르면_서로_막지_않는다() {
+        assertThat(nodeA.tryAcquire(JOB, TTL)).isTrue();
+        assertThat(nodeB.tryAcquire("other", TTL)).isTrue();
+    }
+}
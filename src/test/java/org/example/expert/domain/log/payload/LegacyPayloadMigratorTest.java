@@ -0,0 +1,102 @@
+package org.example.expert.domain.log.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.lease.JobLeaseManager;
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 구 컬럼(logs.payload)을 만들었다 지우므로 트랜잭션 없이 돌린다
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LegacyPayloadMigratorTest {
+
+    private static final String LEASE_NAME = "legacy-payload-migration";
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LogPayloadCodec codec = new LogPayloadCodec(objectMapper, new SimpleMeterRegistry(), 512);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("ALTER TABLE logs ADD COLUMN payload TEXT");
+        for (int i = 1; i <= 7; i++) {
+            jdbcTemplate.update("INSERT INTO logs (action, status, created_at, payload) VALUES (?, ?, ?, ?)",
+                    "MANAGER_ASSIGN", "SUCCESS", Timestamp.valueOf(LocalDateTime.now()), "{\"todoId\":" + i + "}");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM log_payloads");
+        jdbcTemplate.update("DELETE FROM logs");
+        jdbcTemplate.update("DELETE FROM job_leases");
+        jdbcTemplate.execute("ALTER TABLE logs DROP COLUMN payload");
+    }
+
+    @Test
+    void 다른_노드가_lease_를_잡고_있으면_건너뛴다() {
+        new JobLeaseManager(jdbcTemplate).tryAcquire(LEASE_NAME, TTL);
+
+        newNode().migrate();
+
+        assertThat(count("SELECT COUNT(*) FROM log_payloads")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM logs WHERE payload IS NOT NULL")).isEqualTo(7);
+    }
+
+    @Test
+    void 여러_노드가_함께_기동해도_한_번씩만_옮기고_실패하지_않는다() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Callable<Void> node = () -> {
+                newNode().migrate();
+                return null;
+            };
+            List<Future<Void>> results = executor.invokeAll(List.of(node, node, node));
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(count("SELECT COUNT(*) FROM log_payloads")).isEqualTo(7);
+        assertThat(count("SELECT COUNT(*) FROM logs WHERE payload IS NOT NULL")).isZero();
+        byte[] data = jdbcTemplate.queryForObject(
+                "SELECT data FROM log_payloads ORDER BY log_id LIMIT 1", byte[].class);
+        assertThat(objectMapper.readTree(codec.decode(data)).get("todoId").asInt()).isEqualTo(1);
+    }
+
+    // 인스턴스마다 JobLeaseManager owner 가 다르므로 노드 하나로 본다
+    private LegacyPayloadMigrator newNode() {
+        return new LegacyPayloadMigrator(jdbcTemplate, transactionManager, codec, new JobLeaseManager(jdbcTemplate), 2, TTL);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
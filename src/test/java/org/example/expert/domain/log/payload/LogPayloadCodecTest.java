@@ -0,0 +1,49 @@
+package org.example.expert.domain.log.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogPayloadCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LogPayloadCodec codec = new LogPayloadCodec(objectMapper, new SimpleMeterRegistry(), 512);
+
+    @Test
+    void JSON_payload_는_더_작게_저장되고_같은_JSON_으로_복원된다() throws Exception {
+        // ManagerService 의 일반적인 payload
+        String json = "{\"todoId\":12345,\"managerUserId\":67890,\"requesterId\":13579}";
+
+        byte[] encoded = codec.encode(json);
+
+        assertThat(encoded.length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(objectMapper.readTree(codec.decode(encoded))).isEqualTo(objectMapper.readTree(json));
+    }
+
+    @Test
+    void Smile_이_더_크면_원문_그대로_저장한다() {
+        // Smile 은 실수를 8바이트 double 로 쓰므로 이 경우 원문보다 커진다
+        String json = "{\"ratio\":0.5}";
+
+        byte[] encoded = codec.encode(json);
+
+        assertThat(encoded.length).isEqualTo(json.getBytes(StandardCharsets.UTF_8).length + 1);
+        assertThat(codec.decode(encoded)).isEqualTo(json);
+    }
+
+    @Test
+    void 임계값을_넘으면_압축하고_JSON_이_아니면_텍스트로_보관한다() throws Exception {
+        String large = "{\"items\":[" + "{\"name\":\"manager\",\"status\":\"SUCCESS\"},".repeat(100) + "{}]}";
+        byte[] encoded = codec.encode(large);
+        assertThat(encoded.length).isLessThan(large.length() / 5);
+        assertThat(objectMapper.readTree(codec.decode(encoded))).isEqualTo(objectMapper.readTree(large));
+
+        String text = "1 건 실패: 담당자 등록";
+        assertThat(codec.decode(codec.encode(text))).isEqualTo(text);
+        assertThat(codec.encode(null)).isNull();
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.expert.domain.log.repository;
+
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.log.dto.request.LogSearchRequest;
+import org.example.expert.domain.log.enums.LogAction;
+import org.example.expert.domain.log.enums.LogStatus;
+import org.example.expert.support.RepositoryTest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /admin/logs 가 만드는 쿼리(LogRepositoryImpl.searchAfter 가 실제로 내보낸 SQL)가 logs 엔티티에 선언된 인덱스만으로
+ * 풀리는지(테이블 풀 스캔이 없는지) H2 실행 계획으로 확인한다. SQL 은 Hibernate StatementInspector 로 가로챈다.
+ */
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.example.expert.domain.log.repository.LogQueryPlanTest$CapturingInspector")
+class LogQueryPlanTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime MARCH = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final Cursor SEEK = new Cursor(MARCH, 5000);
+
+    @Autowired
+    private LogRepository logRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        LogAction[] actions = {LogAction.MANAGER_REGISTER, LogAction.MANAGER_ASSIGN, LogAction.MANAGER_DELETE};
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add(new Object[]{actions[i % actions.length].name(), (i % 10 == 0 ? LogStatus.FAIL : LogStatus.SUCCESS).name(),
+                    i % 500, i % 2000, "m", Timestamp.valueOf(BASE.plusMinutes(i * 15L))});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO logs (action, status, requester_id, target_id, message, created_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM logs");
+    }
+
+    static Stream<Arguments> searches() {
+        return Stream.of(
+                Arguments.of(new LogSearchRequest(LogAction.MANAGER_ASSIGN, null, null, null, null, null), SEEK),
+                Arguments.of(new LogSearchRequest(null, LogStatus.FAIL, null, null,
+                        LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 2, 2, 0, 0)), null),
+                Arguments.of(new LogSearchRequest(null, null, 42L, null, null, null), null),
+                Arguments.of(new LogSearchRequest(null, null, 42L, null, null, null), SEEK),
+                Arguments.of(new LogSearchRequest(null, null, null, 7L, LocalDateTime.of(2024, 1, 15, 0, 0), null), null),
+                Arguments.of(new LogSearchRequest(null, null, null, null,
+                        LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 2, 2, 0, 0)), null),
+                Arguments.of(new LogSearchRequest(null, null, null, null, null, null), SEEK)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("searches")
+    void 조회_조건마다_인덱스를_탄다(LogSearchRequest req, Cursor cursor) {
+        CapturingInspector.last = null;
+        logRepository.searchAfter(req, cursor, 21);
+        String sql = CapturingInspector.last;
+        assertThat(sql).isNotNull();
+
+        String plan = explain(sql);
+
+        assertThat(plan).doesNotContain("tableScan");
+        assertThat(plan).containsIgnoringCase("IX_LOG_");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        });
+    }
+
+    // searchAfter 가 만든 logs 조회 SQL 을 그대로 남긴다
+    public static class CapturingInspector implements StatementInspector {
+
+        static volatile String last;
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.startsWith("select") && sql.contains(" from logs ")) {
+                last = sql;
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.domain.log.retention;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.log.dto.response.LogArchiveRow;
+import org.example.expert.domain.log.enums.LogAction;
+import org.example.expert.domain.log.enums.LogStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogArchiveStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @TempDir
+    Path dir;
+
+    private LogArchiveRow row(long id, LocalDateTime createdAt, LogStatus status) {
+        return new LogArchiveRow(id, LogAction.MANAGER_REGISTER, status, 1L, 10L, "m" + id, null, createdAt);
+    }
+
+    @Test
+    void 기간이_겹치는_보관_파일에서만_조건에_맞는_행을_찾는다() {
+        LogArchiveStore store = new LogArchiveStore(objectMapper, dir.toString());
+        store.write(List.of(row(1, base, LogStatus.SUCCESS), row(2, base.plusDays(1), LogStatus.FAIL)), base.plusDays(30));
+        store.write(List.of(row(3, base.plusDays(10), LogStatus.FAIL)), base.plusDays(30));
+
+        List<LogArchiveRow> found = store.search(base, base.plusDays(2), r -> r.status() == LogStatus.FAIL, 10);
+
+        assertThat(found).extracting(LogArchiveRow::id).containsExactly(2L);
+        // to 는 제외한다 (/admin/logs 와 같다)
+        assertThat(store.search(base, base.plusDays(1), r -> true, 10)).extracting(LogArchiveRow::id).containsExactly(1L);
+    }
+
+    @Test
+    void 삭제가_끝나지_않은_청크는_재시작_후에도_남아_있다() {
+        LogArchiveStore store = new LogArchiveStore(objectMapper, dir.toString());
+        ArchiveChunk first = store.write(List.of(row(1, base, LogStatus.SUCCESS)), base.plusDays(30));
+        store.write(List.of(row(2, base, LogStatus.SUCCESS)), base.plusDays(30));
+        store.markDeleted(first);
+
+        LogArchiveStore reopened = new LogArchiveStore(objectMapper, dir.toString());
+
+        assertThat(reopened.pendingDeletes()).extracting(ArchiveChunk::firstId).containsExactly(2L);
+        assertThat(reopened.chunks()).hasSize(2);
+    }
+
+    @Test
+    void 같은_디렉터리를_쓰는_다른_노드의_청크와_삭제_표시도_보인다() {
+        LogArchiveStore nodeA = new LogArchiveStore(objectMapper, dir.toString());
+        LogArchiveStore nodeB = new LogArchiveStore(objectMapper, dir.toString());
+
+        ArchiveChunk chunk = nodeA.write(List.of(row(1, base, LogStatus.FAIL)), base.plusDays(30));
+        assertThat(nodeB.pendingDeletes()).extracting(ArchiveChunk::file).containsExactly(chunk.file());
+        assertThat(nodeB.search(base, base.plusSeconds(1), r -> true, 10)).extracting(LogArchiveRow::id).containsExactly(1L);
+
+        nodeA.markDeleted(chunk);
+        assertThat(nodeB.pendingDeletes()).isEmpty();
+        assertThat(nodeB.chunks()).hasSize(1);
+    }
+
+    @Test
+    void 쓰다_만_manifest_줄_뒤에_덧붙인_항목은_잃지_않는다() throws Exception {
+        LogArchiveStore store = new LogArchiveStore(objectMapper, dir.toString());
+        store.write(List.of(row(1, base, LogStatus.SUCCESS)), base.plusDays(30));
+        Files.writeString(dir.resolve("manifest.ndjson"), "{\"file\":\"logs-", StandardOpenOption.APPEND);
+
+        store.write(List.of(row(2, base, LogStatus.SUCCESS)), base.plusDays(30));
+
+        LogArchiveStore reopened = new LogArchiveStore(objectMapper, dir.toString());
+        assertThat(reopened.chunks()).extracting(ArchiveChunk::firstId).containsExactly(1L, 2L);
+    }
+}
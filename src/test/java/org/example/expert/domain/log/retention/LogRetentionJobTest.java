@@ -0,0 +1,86 @@
+package org.example.expert.domain.log.retention;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.lease.JobLeaseManager;
+import org.example.expert.domain.log.dto.response.LogArchiveRow;
+import org.example.expert.domain.log.payload.LogPayloadCodec;
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 문장마다 커밋하는 작업이므로 데이터를 실제로 커밋한다
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LogRetentionJobTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM log_payloads");
+        jdbcTemplate.update("DELETE FROM logs");
+        jdbcTemplate.update("DELETE FROM job_leases");
+    }
+
+    @Test
+    void 기준보다_오래된_행만_청크로_보관하고_지운다() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            insert(now.minusDays(100).plusMinutes(i));
+        }
+        for (int i = 0; i < 3; i++) {
+            insert(now.minusMinutes(i));
+        }
+        LogArchiveStore store = new LogArchiveStore(objectMapper, dir.toString());
+
+        newJob(store).run();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM logs", Long.class)).isEqualTo(3);
+        assertThat(store.chunks()).hasSize(3).allMatch(ArchiveChunk::deleted);
+        assertThat(store.search(null, null, row -> true, 100)).extracting(LogArchiveRow::createdAt)
+                .allMatch(createdAt -> createdAt.isBefore(now.minusDays(90)))
+                .hasSize(5);
+    }
+
+    @Test
+    void 보관할_행이_없으면_아무것도_쓰지_않는다() {
+        insert(LocalDateTime.now());
+        LogArchiveStore store = new LogArchiveStore(objectMapper, dir.toString());
+
+        newJob(store).run();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM logs", Long.class)).isOne();
+        assertThat(store.chunks()).isEmpty();
+    }
+
+    private LogRetentionJob newJob(LogArchiveStore store) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        return new LogRetentionJob(jdbcTemplate, store, new JobLeaseManager(jdbcTemplate),
+                new LogPayloadCodec(objectMapper, registry, 512), registry,
+                true, Duration.ofDays(90), 2, 1, Duration.ZERO, Duration.ofMinutes(5));
+    }
+
+    private void insert(LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO logs (action, status, created_at) VALUES ('MANAGER_ASSIGN', 'SUCCESS', ?)",
+                Timestamp.valueOf(createdAt));
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.expert.domain.log.writer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferTest {
+
+    @Test
+    void 가득_차면_offer_는_false_이고_하나를_꺼내면_다시_넣을_수_있다() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isFalse();
+    }
+
+    @Test
+    void 용량은_2의_거듭제곱으로_올린다() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        int accepted = 0;
+        while (buffer.offer(accepted)) {
+            accepted++;
+        }
+        assertThat(accepted).isEqualTo(4);
+    }
+
+    @Test
+    void 비어_있으면_poll_은_null_이고_여러_바퀴를_돌아도_FIFO_를_지킨다() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        assertThat(buffer.poll()).isNull();
+
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 100; round++) {
+            while (buffer.offer(next)) {
+                next++;
+            }
+            for (int i = 0; i < 3; i++) {
+                assertThat(buffer.poll()).isEqualTo(expected++);
+            }
+        }
+        List<Integer> rest = new ArrayList<>();
+        assertThat(buffer.drainTo(rest::add, 10)).isEqualTo(next - expected);
+        assertThat(rest.get(0)).isEqualTo(expected);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void 여러_생산자와_소비자가_동시에_써도_모든_항목을_정확히_한_번씩_꺼낸다() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        BitSet seen = new BitSet(producers * perProducer);
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(producers + 2);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+            for (int c = 0; c < 2; c++) {
+                futures.add(pool.submit(() -> {
+                    while (consumed.get() < producers * perProducer) {
+                        Integer item = buffer.poll();
+                        if (item == null) {
+                            Thread.onSpinWait();
+                            continue;
+                        }
+                        synchronized (seen) {
+                            if (seen.get(item)) {
+                                duplicates.incrementAndGet();
+                            }
+                            seen.set(item);
+                        }
+                        consumed.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(duplicates.get()).isZero();
+        assertThat(seen.cardinality()).isEqualTo(producers * perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.log.writer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeqWatermarkTest {
+
+    @Test
+    void 순서가_바뀌어_끝나도_빈틈이_메워질_때까지_올리지_않는다() {
+        SeqWatermark watermark = new SeqWatermark();
+        watermark.done(2);
+        watermark.done(3);
+
+        assertThat(watermark.advance()).isFalse();
+        assertThat(watermark.contiguous()).isZero();
+
+        watermark.done(1);
+        assertThat(watermark.advance()).isTrue();
+        assertThat(watermark.contiguous()).isEqualTo(3);
+    }
+
+    @Test
+    void 큐에_못_넣고_버린_seq_도_끝난_것으로_건너뛴다() {
+        SeqWatermark watermark = new SeqWatermark();
+        watermark.done(1);
+        watermark.dropped(2);
+        watermark.done(4);
+
+        assertThat(watermark.advance()).isTrue();
+        assertThat(watermark.contiguous()).isEqualTo(2);
+
+        watermark.dropped(3);
+        assertThat(watermark.advance()).isTrue();
+        assertThat(watermark.contiguous()).isEqualTo(4);
+        assertThat(watermark.advance()).isFalse();
+    }
+
+    @Test
+    void reset_이후에는_그_다음_seq_부터_이어간다() {
+        SeqWatermark watermark = new SeqWatermark();
+        watermark.done(5);
+        watermark.reset(10);
+
+        watermark.done(12);
+        assertThat(watermark.advance()).isFalse();
+        watermark.done(11);
+        assertThat(watermark.advance()).isTrue();
+        assertThat(watermark.contiguous()).isEqualTo(12);
+    }
+
+    @Test
+    void 복구로_이미_지난_seq_가_다시_와도_뒤로_가지_않는다() {
+        SeqWatermark watermark = new SeqWatermark();
+        watermark.reset(10);
+        watermark.done(3);
+
+        assertThat(watermark.advance()).isFalse();
+        assertThat(watermark.contiguous()).isEqualTo(10);
+    }
+}
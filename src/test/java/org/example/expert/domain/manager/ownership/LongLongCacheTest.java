@@ -0,0 +1,41 @@
+package org.example.expert.domain.manager.ownership;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongLongCacheTest {
+
+    @Test
+    void 가득_차면_최근에_조회하지_않은_엔트리를_내보낸다() {
+        LongLongCache cache = new LongLongCache(3, 1);
+        cache.put(1L, 10L);
+        cache.put(2L, 20L);
+        cache.put(3L, 30L);
+        cache.get(1L);
+        cache.get(3L);
+
+        assertThat(cache.put(4L, 40L)).isTrue();
+
+        assertThat(cache.get(2L)).isEqualTo(LongLongCache.MISSING);
+        assertThat(cache.get(1L)).isEqualTo(10L);
+        assertThat(cache.get(3L)).isEqualTo(30L);
+        assertThat(cache.get(4L)).isEqualTo(40L);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 값으로_지우면_같은_todo_의_엔트리가_모두_사라진다() {
+        LongLongCache cache = new LongLongCache(1000, 4);
+        for (long managerId = 1; managerId <= 300; managerId++) {
+            cache.put(managerId, managerId % 3 + 1);
+        }
+
+        assertThat(cache.removeValue(2L)).isEqualTo(100);
+
+        for (long managerId = 1; managerId <= 300; managerId++) {
+            long expected = managerId % 3 + 1 == 2 ? LongLongCache.MISSING : managerId % 3 + 1;
+            assertThat(cache.get(managerId)).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.manager.ownership;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OwnershipIndexTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final OwnershipIndex ownershipIndex =
+            new OwnershipIndex(todoRepository, mock(ManagerRepository.class), new SimpleMeterRegistry(), 16, 1);
+
+    @Test
+    void 저장_커밋_이벤트로_채운_작성자는_DB_를_읽지_않는다() {
+        ownershipIndex.onTodoSaved(new TodoSavedEvent(1L, 7L, "title"));
+
+        assertThat(ownershipIndex.ownerOf(1L)).isEqualTo(7L);
+        verify(todoRepository, never()).findOwnerIdById(anyLong());
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.expert.domain.manager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.log.service.LogService;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.ownership.OwnershipIndex;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ManagerServiceTest {
+
+    private static final long TODO_ID = 10L;
+    private static final AuthUser OWNER = new AuthUser(1L, "owner@a.com", UserRole.USER, "owner");
+    private static final User MANAGER_USER = User.fromAuthUser(new AuthUser(2L, "m@a.com", UserRole.USER, "manager"));
+
+    private final ManagerRepository managerRepository = mock(ManagerRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final OwnershipIndex ownershipIndex = mock(OwnershipIndex.class);
+
+    private final ManagerService managerService = new ManagerService(
+            managerRepository, userRepository, todoRepository, mock(LogService.class), ownershipIndex, new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        when(ownershipIndex.ownerOf(TODO_ID)).thenReturn(OWNER.getId());
+        when(userRepository.findById(MANAGER_USER.getId())).thenReturn(Optional.of(MANAGER_USER));
+    }
+
+    @Test
+    void 이미_담당자인_유저를_다시_등록하면_400_이고_저장하지_않는다() {
+        when(managerRepository.findAssignedUserIds(TODO_ID, List.of(MANAGER_USER.getId())))
+                .thenReturn(List.of(MANAGER_USER.getId()));
+
+        assertThatThrownBy(() -> managerService.saveManager(OWNER, TODO_ID, request(MANAGER_USER.getId())))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("이미");
+        verify(managerRepository, never()).saveAll(anyList());
+        verify(todoRepository, never()).addManagerCount(anyLong(), eq(1));
+    }
+
+    @Test
+    void 확인과_저장_사이에_다른_요청이_먼저_넣었으면_유니크_위반을_400_으로_바꾼다() {
+        when(managerRepository.findAssignedUserIds(TODO_ID, List.of(MANAGER_USER.getId()))).thenReturn(List.of());
+        when(managerRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("ux_managers_todo_id_user_id"));
+
+        assertThatThrownBy(() -> managerService.saveManager(OWNER, TODO_ID, request(MANAGER_USER.getId())))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(todoRepository, never()).addManagerCount(anyLong(), eq(1));
+    }
+
+    private static ManagerSaveRequest request(long managerUserId) {
+        return new ManagerSaveRequest(managerUserId);
+    }
+}
@@ -5,8 +5,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.expert.config.JwtAuthenticationFilter;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -22,8 +24,10 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
@@ -40,6 +44,9 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoExportService todoExportService;
+
     @MockBean
     JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -103,4 +110,27 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.code").value(400))
                 .andExpect(jsonPath("$.message").value("Todo not found"));
     }
+
+    @Test
+    void cursor_파라미터가_있으면_키셋_페이징으로_조회한다() throws Exception {
+        // given
+        UserResponse userResponse = new UserResponse(1L, "email", "nickname");
+        TodoResponse todo = new TodoResponse(
+                2L, "title", "contents", "Sunny", userResponse, LocalDateTime.now(), LocalDateTime.now()
+        );
+        CursorResponse<TodoResponse> response = new CursorResponse<>(List.of(todo), "next", true);
+
+        // when
+        when(todoService.getTodosByCursor(eq(""), eq(10))).thenReturn(response);
+
+        // then
+        mockMvc.perform(get("/todos")
+                .param("cursor", "")
+                .with(user("u1").roles("USER"))
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(2L))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
 }
@@ -0,0 +1,64 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoSearchItem;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.NicknameMatch;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTest
+class TodoRepositorySearchTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Todo aliceTodo;
+    private Todo bobTodo;
+
+    @BeforeEach
+    void setUp() {
+        User alice = userRepository.save(new User("alice@example.com", "pw", UserRole.USER, "Alice"));
+        User bob = userRepository.save(new User("bob@example.com", "pw", UserRole.USER, "malibob"));
+        aliceTodo = todoRepository.save(new Todo("alice todo", "contents", "sunny", alice));
+        bobTodo = todoRepository.save(new Todo("bob todo", "contents", "sunny", bob));
+    }
+
+    @Test
+    void 닉네임_접두사_검색은_대소문자를_구분하지_않는다() {
+        assertThat(search("ali", NicknameMatch.PREFIX)).containsExactly(aliceTodo.getId());
+        assertThat(search("ALI", NicknameMatch.PREFIX)).containsExactly(aliceTodo.getId());
+    }
+
+    @Test
+    void 닉네임_포함_검색은_대소문자를_구분하지_않는다() {
+        assertThat(search("LIB", NicknameMatch.CONTAINS)).containsExactly(bobTodo.getId());
+        assertThat(search("LI", NicknameMatch.CONTAINS))
+                .containsExactlyInAnyOrder(aliceTodo.getId(), bobTodo.getId());
+    }
+
+    @Test
+    void 접두사_검색은_중간_일치를_포함하지_않는다() {
+        assertThat(search("lib", NicknameMatch.PREFIX)).isEmpty();
+    }
+
+    private List<Long> search(String nickname, NicknameMatch match) {
+        TodoSearchRequest req = new TodoSearchRequest(null, nickname, null, null, null, match);
+        return todoRepository.searchSlice(req, PageRequest.of(0, 10)).slice()
+                .map(TodoSearchItem::todoId)
+                .getContent();
+    }
+}
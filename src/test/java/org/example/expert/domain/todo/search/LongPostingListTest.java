@@ -0,0 +1,45 @@
+package org.example.expert.domain.todo.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongPostingListTest {
+
+    @Test
+    void 증가하는_id_는_정렬된_채로_복원된다() {
+        LongPostingList list = new LongPostingList();
+        long[] ids = {1L, 2L, 300L, 70_000L, 5_000_000_000L};
+        for (long id : ids) {
+            list.add(id);
+        }
+
+        assertThat(list.toArray()).containsExactly(ids);
+        assertThat(list.size()).isEqualTo(ids.length);
+    }
+
+    @Test
+    void 순서가_어긋난_id_는_제자리에_끼워_넣고_중복은_무시한다() {
+        LongPostingList list = new LongPostingList();
+        list.add(10L);
+        list.add(50L);
+        list.add(30L);
+        list.add(1L);
+        list.add(30L);
+
+        assertThat(list.toArray()).containsExactly(1L, 10L, 30L, 50L);
+        assertThat(list.size()).isEqualTo(4);
+    }
+
+    @Test
+    void 버퍼가_부족하면_늘린다() {
+        LongPostingList list = new LongPostingList();
+        for (long id = 1; id <= 1_000; id++) {
+            list.add(id * 1_000);
+        }
+
+        assertThat(list.size()).isEqualTo(1_000);
+        assertThat(list.capacityBytes()).isGreaterThanOrEqualTo(2_000);
+        assertThat(list.toArray()[999]).isEqualTo(1_000_000L);
+    }
+}
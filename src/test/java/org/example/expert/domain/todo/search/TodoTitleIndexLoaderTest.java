@@ -0,0 +1,49 @@
+package org.example.expert.domain.todo.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTest
+class TodoTitleIndexLoaderTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final TodoTitleIndex titleIndex = new TodoTitleIndex(new SimpleMeterRegistry(), true, true, 1L << 20, 100);
+
+    @Test
+    void 최대_id_아래로_빠진_행이_있으면_다시_채운다() {
+        User user = userRepository.save(new User("a@example.com", "pw", UserRole.USER, "a"));
+        Todo first = todoRepository.save(new Todo("weekly report", "c", "sunny", user));
+        Todo missed = todoRepository.save(new Todo("report draft", "c", "sunny", user));
+        Todo last = todoRepository.save(new Todo("grocery report", "c", "sunny", user));
+        todoRepository.flush();
+
+        // 이벤트로 first, last 만 색인되고 missed 는 리스너 실패 등으로 빠진 상태
+        titleIndex.add(first.getId(), first.getTitle());
+        titleIndex.add(last.getId(), last.getTitle());
+        titleIndex.markReady();
+        long maxId = last.getId();
+        assertThat(titleIndex.findCandidates("report", () -> maxId)).contains(List.of(first.getId(), last.getId()));
+
+        new TodoTitleIndexLoader(todoRepository, titleIndex).catchUp();
+
+        assertThat(titleIndex.documentCount()).isEqualTo(3);
+        assertThat(titleIndex.findCandidates("report", () -> maxId))
+                .contains(List.of(first.getId(), missed.getId(), last.getId()));
+    }
+}
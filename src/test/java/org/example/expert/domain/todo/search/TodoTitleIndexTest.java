@@ -0,0 +1,101 @@
+package org.example.expert.domain.todo.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoTitleIndexTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TodoTitleIndex index(boolean singleNode) {
+        return new TodoTitleIndex(meterRegistry, true, singleNode, 1L << 20, 100);
+    }
+
+    @Test
+    void 모든_trigram_을_포함하는_todo_만_후보가_된다() {
+        TodoTitleIndex index = index(true);
+        index.add(1L, "Weekly Report");
+        index.add(2L, "report draft");
+        index.add(3L, "grocery list");
+        index.markReady();
+
+        assertThat(index.findCandidates("REPORT", () -> 3L)).contains(List.of(1L, 2L));
+        assertThat(index.findCandidates("draft", () -> 3L)).contains(List.of(2L));
+        assertThat(index.findCandidates("zzz", () -> 3L)).contains(List.of());
+    }
+
+    @Test
+    void DB_에_색인하지_않은_id_가_있으면_LIKE_로_대체한다() {
+        TodoTitleIndex index = index(true);
+        index.add(1L, "Weekly Report");
+        index.markReady();
+
+        // 다른 경로(SQL, import)로 id 2 가 들어온 상태
+        assertThat(index.findCandidates("report", () -> 2L)).isEmpty();
+        assertThat(meterRegistry.counter("todo.title.index.lookups", "result", "stale").count()).isEqualTo(1.0);
+
+        index.add(2L, "report draft");
+        assertThat(index.findCandidates("report", () -> 2L)).contains(List.of(1L, 2L));
+    }
+
+    @Test
+    void 단일_노드가_아니거나_준비_전이거나_검색어가_짧으면_쓰지_않는다() {
+        TodoTitleIndex multiNode = index(false);
+        multiNode.add(1L, "Weekly Report");
+        multiNode.markReady();
+        assertThat(multiNode.isEnabled()).isFalse();
+        assertThat(multiNode.findCandidates("report", () -> 1L)).isEmpty();
+        assertThat(multiNode.documentCount()).isZero();
+
+        TodoTitleIndex notReady = index(true);
+        notReady.add(1L, "Weekly Report");
+        assertThat(notReady.findCandidates("report", () -> 1L)).isEmpty();
+
+        notReady.markReady();
+        assertThat(notReady.findCandidates("re", () -> 1L)).isEmpty();
+    }
+
+    @Test
+    void 후보가_너무_많거나_용량을_넘으면_대체한다() {
+        TodoTitleIndex small = new TodoTitleIndex(meterRegistry, true, true, 1L << 20, 2);
+        for (long id = 1; id <= 3; id++) {
+            small.add(id, "report " + id);
+        }
+        small.markReady();
+        assertThat(small.findCandidates("report", () -> 3L)).isEqualTo(Optional.empty());
+
+        TodoTitleIndex tiny = new TodoTitleIndex(meterRegistry, true, true, 64, 100);
+        tiny.add(1L, "a fairly long title that produces many trigrams");
+        tiny.markReady();
+        assertThat(tiny.findCandidates("long", () -> 1L)).isEmpty();
+        assertThat(tiny.sizeInBytes()).isZero();
+    }
+
+    @Test
+    void 같은_id_는_한_번만_세고_삭제하면_빼고_비우면_다시_채울_때까지_쓰지_않는다() {
+        TodoTitleIndex index = index(true);
+        index.add(1L, "Weekly Report");
+        index.add(1L, "Weekly Report"); // 커밋 이벤트와 catch-up 이 같은 행을 넣은 경우
+        index.add(2L, "report draft");
+        index.markReady();
+        assertThat(index.documentCount()).isEqualTo(2);
+
+        index.remove(2L);
+        assertThat(index.documentCount()).isOne();
+
+        index.clear();
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.documentCount()).isZero();
+        assertThat(index.maxIndexedId()).isZero();
+        assertThat(index.findCandidates("report", () -> 0L)).isEmpty();
+
+        index.add(1L, "Weekly Report");
+        index.markReady();
+        assertThat(index.findCandidates("report", () -> 1L)).contains(List.of(1L));
+    }
+}
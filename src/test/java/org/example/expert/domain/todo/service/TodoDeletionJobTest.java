@@ -0,0 +1,193 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.ownership.OwnershipIndex;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoDeletion;
+import org.example.expert.domain.todo.repository.TodoDeletionRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.TodoTitleIndex;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 청크마다 REQUIRES_NEW 트랜잭션으로 커밋하므로 데이터를 실제로 커밋한다
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoDeletionJobTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoDeletionRepository todoDeletionRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final OwnershipIndex ownershipIndex = mock(OwnershipIndex.class);
+    private final TodoTitleIndex titleIndex = mock(TodoTitleIndex.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private User owner;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("owner@example.com", "pw", UserRole.USER, "owner"));
+        User other = userRepository.save(new User("other@example.com", "pw", UserRole.USER, "other"));
+        todo = todoRepository.save(new Todo("title", "contents", "sunny", owner));
+        managerRepository.save(new Manager(other, todo));
+        for (int i = 0; i < 5; i++) {
+            insertComment(jdbcTemplate.getDataSource(), "c" + i);
+        }
+        todoDeletionRepository.save(new TodoDeletion(todo.getId(), owner.getId(), 5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM todo_deletions");
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void 댓글과_담당자를_청크로_지운_뒤_todo_를_지우고_진행_카운터를_남긴다() {
+        newJob(jdbcTemplate).run();
+
+        assertThat(count("comments")).isZero();
+        assertThat(count("managers")).isZero();
+        assertThat(count("todos")).isZero();
+        assertThat(progress()).containsEntry("status", "DONE")
+                .containsEntry("comments_deleted", 5L)
+                .containsEntry("managers_deleted", 2L);
+        assertThat(meterRegistry.counter("todo.deletion.deleted", "table", "comments").count()).isEqualTo(5.0);
+        verify(ownershipIndex).invalidateTodo(todo.getId());
+        verify(titleIndex).remove(todo.getId());
+    }
+
+    @Test
+    void 중간에_멈춘_RUNNING_작업은_남은_행부터_이어서_끝낸다() {
+        // 이전 실행이 댓글 청크 하나를 커밋한 뒤 죽은 상태
+        jdbcTemplate.update("UPDATE todo_deletions SET status = 'RUNNING', comments_deleted = 2 WHERE todo_id = ?", todo.getId());
+        jdbcTemplate.update("DELETE FROM comments WHERE todo_id = ? LIMIT 2", todo.getId());
+
+        newJob(jdbcTemplate).run();
+
+        assertThat(count("comments")).isZero();
+        assertThat(count("todos")).isZero();
+        assertThat(progress()).containsEntry("status", "DONE").containsEntry("comments_deleted", 5L);
+        assertThat(meterRegistry.counter("todo.deletion.deleted", "table", "comments").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void 청크를_지우는_사이_새_댓글이_들어와_FK_로_실패하면_남은_행을_다시_지운다() {
+        newJob(new LateCommentJdbcTemplate(dataSource, 1)).run();
+
+        assertThat(count("comments")).isZero();
+        assertThat(count("todos")).isZero();
+        assertThat(progress()).containsEntry("status", "DONE").containsEntry("comments_deleted", 6L);
+        verify(ownershipIndex).invalidateTodo(todo.getId());
+    }
+
+    @Test
+    void 재시도_횟수를_넘기면_진행분을_남기고_다음_실행으로_넘긴다() {
+        newJob(new LateCommentJdbcTemplate(dataSource, Integer.MAX_VALUE)).run();
+
+        assertThat(count("todos")).isOne();
+        assertThat(progress()).containsEntry("status", "RUNNING").containsEntry("comments_deleted", 7L);
+        verify(ownershipIndex, never()).invalidateTodo(todo.getId());
+    }
+
+    private TodoDeletionJob newJob(JdbcTemplate jdbc) {
+        return new TodoDeletionJob(jdbc, transactionManager, todoDeletionRepository, ownershipIndex, titleIndex, meterRegistry,
+                true, CHUNK_SIZE, 10, Duration.ZERO);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private Map<String, Object> progress() {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, comments_deleted, managers_deleted FROM todo_deletions WHERE todo_id = ?", todo.getId());
+    }
+
+    // 트랜잭션 밖의 별도 커넥션으로 커밋해 다른 요청이 넣은 댓글처럼 보이게 한다
+    private void insertComment(DataSource source, String contents) {
+        try (Connection connection = source.getConnection();
+             PreparedStatement ps = connection.prepareStatement(
+                     "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)")) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            ps.setString(1, contents);
+            ps.setLong(2, owner.getId());
+            ps.setLong(3, todo.getId());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // todo 를 지우기 직전에 새 댓글이 커밋되는 경쟁을 times 번 재현한다
+    private class LateCommentJdbcTemplate extends JdbcTemplate {
+
+        private int remaining;
+
+        LateCommentJdbcTemplate(DataSource dataSource, int times) {
+            super(dataSource);
+            this.remaining = times;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            if (sql.startsWith("DELETE FROM todos") && remaining > 0) {
+                remaining--;
+                insertComment(getDataSource(), "late");
+            }
+            return super.update(sql, args);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.ExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.RepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내보내기는 StatelessSession 이 별도 커넥션으로 읽으므로 데이터를 실제로 커밋한다
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoExportServiceTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private TodoExportService exportService;
+    private List<Long> todoIds;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new TodoExportService(todoRepository, objectMapper, 2);
+        User user = userRepository.save(new User("export@example.com", "pw", UserRole.USER, "exporter"));
+        todoIds = new ArrayList<>();
+        todoIds.add(todoRepository.save(new Todo("first", "plain", "sunny", user)).getId());
+        todoIds.add(todoRepository.save(new Todo("second", "with, comma and \"quote\"", "rainy", user)).getId());
+        todoIds.add(todoRepository.save(new Todo("third", "line\nbreak", "sunny", user)).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void NDJSON_은_fetchSize_와_무관하게_모든_행을_id_순으로_한_줄씩_내보낸다() throws Exception {
+        String body = export(new TodoSearchRequest(), ExportFormat.NDJSON, false);
+
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        List<Long> ids = new ArrayList<>();
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            ids.add(node.get("id").asLong());
+        }
+        assertThat(ids).containsExactlyElementsOf(todoIds);
+        assertThat(objectMapper.readTree(lines[2]).get("contents").asText()).isEqualTo("line\nbreak");
+    }
+
+    @Test
+    void 검색_조건을_그대로_적용한다() throws Exception {
+        TodoSearchRequest req = new TodoSearchRequest("SECOND", null, null, null, null);
+
+        String body = export(req, ExportFormat.NDJSON, false);
+
+        assertThat(body.split("\n")).hasSize(1);
+        assertThat(objectMapper.readTree(body).get("id").asLong()).isEqualTo(todoIds.get(1));
+    }
+
+    @Test
+    void CSV_는_헤더와_RFC4180_인용을_지킨다() throws Exception {
+        String body = export(new TodoSearchRequest(), ExportFormat.CSV, true);
+
+        assertThat(body).startsWith(TodoExportRow.CSV_HEADER + "\n");
+        assertThat(body).contains(todoIds.get(0) + ",first,plain,sunny,");
+        assertThat(body).contains(todoIds.get(1) + ",second,\"with, comma and \"\"quote\"\"\",rainy,");
+        assertThat(body).contains(todoIds.get(2) + ",third,\"line\nbreak\",sunny,");
+    }
+
+    private String export(TodoSearchRequest req, ExportFormat format, boolean gzip) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(req, format, gzip).writeTo(out);
+        byte[] bytes = out.toByteArray();
+        if (gzip) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = in.readAllBytes();
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JPAConfiguration;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.search.TodoTitleIndex;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * H2(MySQL 모드) 위에서 repository 와 JDBC 코드를 검증하는 슬라이스 테스트.
+ * <p>
+ * 운영 MySQL 의 기본 collation(utf8mb4_0900_ai_ci)처럼 문자열 비교가 대소문자를 구분하지 않도록 IGNORECASE=TRUE 로 연다.
+ * 컨텍스트마다 DB 이름을 달리해 캐시된 다른 컨텍스트와 테이블을 공유하지 않는다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JPAConfiguration.class, PersistenceConfig.class, RepositoryTest.Support.class})
+public @interface RepositoryTest {
+
+    @TestConfiguration
+    class Support {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        // TodoRepositoryImpl 의존성. 단일 노드가 아니므로 제목 검색은 항상 LIKE 로 동작한다
+        @Bean
+        TodoTitleIndex todoTitleIndex(MeterRegistry meterRegistry) {
+            return new TodoTitleIndex(meterRegistry, false, false, 0L, 0);
+        }
+    }
+}